@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.iterables.Iterables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark copy of iterables that are not collections with {@link Iterables#toList(Iterable)}.
+ *
+ * The {@code linked_list} and {@code array_list} benchmarks copy elements to a linked list (previous
+ * implementation) and to a default array list: allocation rate ({@code gc.alloc.rate.norm}, reported
+ * by the GC profiler) should be compared with the {@code to_list} benchmark.
+ *
+ * The {@code random_access_list} benchmark shows that random access lists are not copied anymore.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IterablesBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	public int size;
+
+	private Iterable<Object> iterable;
+
+	private List<Object> list;
+
+	@Setup
+	public void setUp() {
+		final List<Object> elements = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			elements.add(new Object());
+		}
+
+		list = Collections.unmodifiableList(elements);
+		iterable = new Iterable<Object>() {
+			@Override
+			public Iterator<Object> iterator() {
+				return elements.iterator();
+			}
+		};
+	}
+
+	@Benchmark
+	public List<Object> to_list() {
+		return Iterables.toList(iterable);
+	}
+
+	@Benchmark
+	public List<Object> linked_list() {
+		List<Object> copy = new LinkedList<>();
+		for (Object o : iterable) {
+			copy.add(o);
+		}
+		return copy;
+	}
+
+	@Benchmark
+	public List<Object> array_list() {
+		List<Object> copy = new ArrayList<>();
+		for (Object o : iterable) {
+			copy.add(o);
+		}
+		return copy;
+	}
+
+	@Benchmark
+	public List<Object> random_access_list() {
+		return Iterables.toList(list);
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.factory.ObjectFactories.reflectionObjectFactory;
+
+/**
+ * Benchmark {@link Mapper} implementations against each other, for
+ * each bean shape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+	@Param({"DOZER", "MODEL_MAPPER", "ORIKA", "SPRING", "GENERATED"})
+	public Provider provider;
+
+	@Param({"FLAT", "NESTED", "COLLECTION", "WIDE"})
+	public Shape shape;
+
+	private Mapper mapper;
+
+	private ObjectFactory<Object, Object> factory;
+
+	private Object source;
+
+	private Object destination;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		mapper = provider.create();
+		factory = reflectionObjectFactory((Class<Object>) shape.destinationClass(), Object.class);
+		source = shape.source();
+		destination = factory.get(source);
+	}
+
+	@Benchmark
+	public Object map_with_factory() {
+		return mapper.map(source, factory);
+	}
+
+	@Benchmark
+	public Object map_to_destination() {
+		mapper.map(source, destination);
+		return destination;
+	}
+}
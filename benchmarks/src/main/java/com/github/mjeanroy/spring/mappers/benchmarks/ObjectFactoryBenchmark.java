@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatDto;
+import com.github.mjeanroy.spring.mappers.factory.AbstractObjectFactory;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.factory.ObjectFactories.reflectionObjectFactory;
+
+/**
+ * Benchmark instantiation of destination objects by object factories.
+ *
+ * The {@code bean_utils} benchmark uses default implementation of {@link AbstractObjectFactory}
+ * (i.e constructor is resolved on each call), the {@code reflection_factory} benchmark uses the
+ * default factory of object mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjectFactoryBenchmark {
+
+	private ObjectFactory<FlatDto, FlatBean> beanUtilsFactory;
+
+	private ObjectFactory<FlatDto, FlatBean> reflectionFactory;
+
+	private FlatBean source;
+
+	@Setup
+	public void setUp() {
+		beanUtilsFactory = new BeanUtilsFactory();
+		reflectionFactory = reflectionObjectFactory(FlatDto.class, FlatBean.class);
+		source = new FlatBean();
+	}
+
+	@Benchmark
+	public FlatDto bean_utils() {
+		return beanUtilsFactory.get(source);
+	}
+
+	@Benchmark
+	public FlatDto reflection_factory() {
+		return reflectionFactory.get(source);
+	}
+
+	@Benchmark
+	public FlatDto constructor_baseline() {
+		return new FlatDto();
+	}
+
+	private static class BeanUtilsFactory extends AbstractObjectFactory<FlatDto, FlatBean> {
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatDto;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.inMemoryObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.lazyObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.memoizedObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.parallelObjectMapper;
+
+/**
+ * Benchmark {@link ObjectMapper#map(Iterable)} of in memory, lazy, memoized and parallel object mappers,
+ * for several kinds and sizes of source iterables.
+ *
+ * Each benchmark reports a secondary {@code elements} result: since it is normalized
+ * against the number of mapped elements, it gives the time spent per element.
+ * Divide {@code gc.alloc.rate.norm} by the number of elements per operation
+ * ({@code size} for a full iteration, {@code min(size, 10)} for a partial
+ * iteration and {@code 3 * size} for repeated iterations) to get bytes
+ * allocated per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjectMapperIterableBenchmark {
+
+	/**
+	 * Number of elements read during a partial iteration.
+	 */
+	private static final int PARTIAL_SIZE = 10;
+
+	/**
+	 * Number of iterations over mapped results during a repeated iteration.
+	 */
+	private static final int REPEAT = 3;
+
+	@Param({"IN_MEMORY", "LAZY", "MEMOIZED", "PARALLEL"})
+	public Variant variant;
+
+	@Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "ITERABLE"})
+	public Input input;
+
+	@Param({"10", "1000", "100000", "1000000"})
+	public int size;
+
+	private ObjectMapper<FlatBean, FlatDto> objectMapper;
+
+	private Iterable<FlatBean> sources;
+
+	@Setup
+	public void setUp() {
+		List<FlatBean> beans = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			FlatBean bean = new FlatBean();
+			bean.setId((long) i);
+			bean.setFirstName("John");
+			bean.setLastName("Doe");
+			beans.add(bean);
+		}
+
+		objectMapper = variant.create(new SpringMapper());
+		sources = input.create(beans);
+	}
+
+	@Benchmark
+	public void full_iteration(Elements elements, Blackhole bh) {
+		elements.elements += iterate(objectMapper.map(sources), Integer.MAX_VALUE, bh);
+	}
+
+	@Benchmark
+	public void partial_iteration(Elements elements, Blackhole bh) {
+		elements.elements += iterate(objectMapper.map(sources), PARTIAL_SIZE, bh);
+	}
+
+	@Benchmark
+	public void repeated_iteration(Elements elements, Blackhole bh) {
+		Iterable<FlatDto> results = objectMapper.map(sources);
+		for (int i = 0; i < REPEAT; i++) {
+			elements.elements += iterate(results, Integer.MAX_VALUE, bh);
+		}
+	}
+
+	private static int iterate(Iterable<FlatDto> results, int max, Blackhole bh) {
+		int count = 0;
+		Iterator<FlatDto> it = results.iterator();
+		while (count < max && it.hasNext()) {
+			bh.consume(it.next());
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Counter of mapped elements, used to report time per element.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Elements {
+		public long elements;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			elements = 0;
+		}
+	}
+
+	/**
+	 * Object mapper implementations.
+	 */
+	public enum Variant {
+		IN_MEMORY {
+			@Override
+			ObjectMapper<FlatBean, FlatDto> create(Mapper mapper) {
+				return inMemoryObjectMapper(mapper, FlatBean.class, FlatDto.class);
+			}
+		},
+
+		LAZY {
+			@Override
+			ObjectMapper<FlatBean, FlatDto> create(Mapper mapper) {
+				return lazyObjectMapper(mapper, FlatBean.class, FlatDto.class);
+			}
+		},
+
+		MEMOIZED {
+			@Override
+			ObjectMapper<FlatBean, FlatDto> create(Mapper mapper) {
+				return memoizedObjectMapper(mapper, FlatBean.class, FlatDto.class);
+			}
+		},
+
+		PARALLEL {
+			@Override
+			ObjectMapper<FlatBean, FlatDto> create(Mapper mapper) {
+				return parallelObjectMapper(mapper, FlatBean.class, FlatDto.class);
+			}
+		};
+
+		abstract ObjectMapper<FlatBean, FlatDto> create(Mapper mapper);
+	}
+
+	/**
+	 * Kind of source iterables.
+	 */
+	public enum Input {
+		ARRAY_LIST {
+			@Override
+			Iterable<FlatBean> create(List<FlatBean> beans) {
+				return new ArrayList<>(beans);
+			}
+		},
+
+		LINKED_LIST {
+			@Override
+			Iterable<FlatBean> create(List<FlatBean> beans) {
+				return new LinkedList<>(beans);
+			}
+		},
+
+		HASH_SET {
+			@Override
+			Iterable<FlatBean> create(List<FlatBean> beans) {
+				return new HashSet<>(beans);
+			}
+		},
+
+		ITERABLE {
+			@Override
+			Iterable<FlatBean> create(List<FlatBean> beans) {
+				final Collection<FlatBean> delegate = new ArrayList<>(beans);
+				return new Iterable<FlatBean>() {
+					@Override
+					public Iterator<FlatBean> iterator() {
+						return delegate.iterator();
+					}
+				};
+			}
+		};
+
+		abstract Iterable<FlatBean> create(List<FlatBean> beans);
+	}
+}
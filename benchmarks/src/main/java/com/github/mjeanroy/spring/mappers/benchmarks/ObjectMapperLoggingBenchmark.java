@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableListMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.lazyObjectMapper;
+
+/**
+ * Benchmark cost of per element logging of object mappers, when logging is disabled.
+ *
+ * Mapper used here does not do anything and always returns the same destination
+ * object: allocation rate ({@code gc.alloc.rate.norm}, reported by the GC profiler) is
+ * the allocation of object mapper itself. Since each operation maps {@code size} elements,
+ * an allocation rate that does not grow with {@code size} means that nothing is allocated
+ * per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjectMapperLoggingBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private List<Object> sources;
+
+	private Iterable<Object> iterable;
+
+	private ObjectMapper<Object, Object> lazyMapper;
+
+	private List<Object> destinations;
+
+	@Setup
+	public void setUp() {
+		sources = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			sources.add(new Object());
+		}
+
+		iterable = new Iterable<Object>() {
+			@Override
+			public Iterator<Object> iterator() {
+				return sources.iterator();
+			}
+		};
+
+		NoOpMapper mapper = new NoOpMapper();
+		lazyMapper = lazyObjectMapper(mapper, Object.class, Object.class);
+		destinations = new LazyUnmodifiableListMapper<>(sources, lazyMapper);
+	}
+
+	@Benchmark
+	public void map_each(Blackhole bh) {
+		for (Object source : sources) {
+			bh.consume(lazyMapper.map(source));
+		}
+	}
+
+	@Benchmark
+	public void lazy_iterable(Blackhole bh) {
+		for (Object destination : lazyMapper.map(iterable)) {
+			bh.consume(destination);
+		}
+	}
+
+	@Benchmark
+	public void lazy_list_get(Blackhole bh) {
+		for (int i = 0, size = destinations.size(); i < size; i++) {
+			bh.consume(destinations.get(i));
+		}
+	}
+
+	/**
+	 * Mapper that does not map anything, so that only object mapper is measured.
+	 */
+	private static class NoOpMapper extends AbstractMapper<Object> {
+
+		/**
+		 * Destination returned for any source object.
+		 */
+		private final Object destination = new Object();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T, U> U map(T source, ObjectFactory<U, T> factory) {
+			return (U) destination;
+		}
+
+		@Override
+		public <T, U> void map(T source, U destination) {
+		}
+
+		@Override
+		public Object getDelegate() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatDto;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.inMemoryObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.parallelObjectMapper;
+
+/**
+ * Benchmark {@link ObjectMapper#map(Map)} of in memory (sequential) and parallel object mappers,
+ * for ordered and unordered source maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjectMapperMapBenchmark {
+
+	@Param({"IN_MEMORY", "PARALLEL"})
+	public String variant;
+
+	@Param({"true", "false"})
+	public boolean ordered;
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private ObjectMapper<FlatBean, FlatDto> objectMapper;
+
+	private Map<Long, FlatBean> sources;
+
+	@Setup
+	public void setUp() {
+		sources = ordered ? new LinkedHashMap<Long, FlatBean>() : new HashMap<Long, FlatBean>();
+		for (int i = 0; i < size; i++) {
+			FlatBean bean = new FlatBean();
+			bean.setId((long) i);
+			bean.setFirstName("John");
+			bean.setLastName("Doe");
+			sources.put(bean.getId(), bean);
+		}
+
+		objectMapper = "PARALLEL".equals(variant) ?
+				parallelObjectMapper(new SpringMapper(), FlatBean.class, FlatDto.class) :
+				inMemoryObjectMapper(new SpringMapper(), FlatBean.class, FlatDto.class);
+	}
+
+	@Benchmark
+	public Map<Long, FlatDto> map() {
+		return objectMapper.map(sources);
+	}
+}
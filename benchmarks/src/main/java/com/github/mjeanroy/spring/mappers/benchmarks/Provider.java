@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.impl.dozer.DozerMapper;
+import com.github.mjeanroy.spring.mappers.impl.generated.GeneratedMapper;
+import com.github.mjeanroy.spring.mappers.impl.modelmapper.ModelMapperMapper;
+import com.github.mjeanroy.spring.mappers.impl.orika.OrikaMapper;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import org.dozer.DozerBeanMapper;
+import org.modelmapper.ModelMapper;
+
+/**
+ * Set of mapper implementations that can be benchmarked.
+ * Each provider creates its mapper with the same defaults as the
+ * spring configuration selected with {@code @EnableMapper}.
+ */
+public enum Provider {
+
+	/**
+	 * Mapper using dozer implementation.
+	 */
+	DOZER {
+		@Override
+		public Mapper create() {
+			return new DozerMapper(new DozerBeanMapper());
+		}
+	},
+
+	/**
+	 * Mapper using ModelMapper implementation.
+	 */
+	MODEL_MAPPER {
+		@Override
+		public Mapper create() {
+			return new ModelMapperMapper(new ModelMapper());
+		}
+	},
+
+	/**
+	 * Mapper using Orika implementation.
+	 */
+	ORIKA {
+		@Override
+		public Mapper create() {
+			return new OrikaMapper(new DefaultMapperFactory.Builder().build());
+		}
+	},
+
+	/**
+	 * Mapper using spring internal method to implement bean mapping.
+	 */
+	SPRING {
+		@Override
+		public Mapper create() {
+			return new SpringMapper();
+		}
+	},
+
+	/**
+	 * Mapper using generated bytecode.
+	 */
+	GENERATED {
+		@Override
+		public Mapper create() {
+			return new GeneratedMapper();
+		}
+	};
+
+	/**
+	 * Create new mapper instance.
+	 *
+	 * @return Mapper.
+	 */
+	public abstract Mapper create();
+}
@@ -0,0 +1,188 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks;
+
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.AddressBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.CollectionBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.CollectionDto;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.FlatDto;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.NestedBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.NestedDto;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.WideBean;
+import com.github.mjeanroy.spring.mappers.benchmarks.beans.WideDto;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of bean shapes used as benchmark inputs.
+ * Each shape defines the source object to map and the
+ * destination class.
+ */
+public enum Shape {
+
+	/**
+	 * Bean with a few simple properties.
+	 */
+	FLAT {
+		@Override
+		public Object source() {
+			return flatBean(1L);
+		}
+
+		@Override
+		public Class<?> destinationClass() {
+			return FlatDto.class;
+		}
+	},
+
+	/**
+	 * Bean with nested beans.
+	 */
+	NESTED {
+		@Override
+		public Object source() {
+			AddressBean address = new AddressBean();
+			address.setStreet("1 Infinite Loop");
+			address.setCity("Cupertino");
+			address.setZipCode("95014");
+			address.setCountry("USA");
+
+			NestedBean bean = new NestedBean();
+			bean.setId(1L);
+			bean.setName("nested");
+			bean.setAddress(address);
+			bean.setOwner(flatBean(2L));
+			return bean;
+		}
+
+		@Override
+		public Class<?> destinationClass() {
+			return NestedDto.class;
+		}
+	},
+
+	/**
+	 * Bean with collections of values and collections of beans.
+	 */
+	COLLECTION {
+		@Override
+		public Object source() {
+			List<FlatBean> items = new ArrayList<>(COLLECTION_SIZE);
+			List<String> tags = new ArrayList<>(COLLECTION_SIZE);
+			for (int i = 0; i < COLLECTION_SIZE; i++) {
+				items.add(flatBean(i));
+				tags.add("tag-" + i);
+			}
+
+			CollectionBean bean = new CollectionBean();
+			bean.setId(1L);
+			bean.setItems(items);
+			bean.setTags(tags);
+			return bean;
+		}
+
+		@Override
+		public Class<?> destinationClass() {
+			return CollectionDto.class;
+		}
+	},
+
+	/**
+	 * Bean with a large number of simple properties.
+	 */
+	WIDE {
+		@Override
+		public Object source() {
+			WideBean bean = new WideBean();
+			BeanWrapper wrapper = new BeanWrapperImpl(bean);
+			int i = 0;
+			for (PropertyDescriptor pd : wrapper.getPropertyDescriptors()) {
+				if (pd.getWriteMethod() == null) {
+					continue;
+				}
+
+				Class<?> type = pd.getPropertyType();
+				String name = pd.getName();
+				i++;
+
+				if (type == String.class) {
+					wrapper.setPropertyValue(name, "value-" + i);
+				} else if (type == Integer.class) {
+					wrapper.setPropertyValue(name, i);
+				} else if (type == Long.class) {
+					wrapper.setPropertyValue(name, (long) i);
+				} else if (type == Double.class) {
+					wrapper.setPropertyValue(name, i * 1.5);
+				} else if (type == Boolean.class) {
+					wrapper.setPropertyValue(name, i % 2 == 0);
+				}
+			}
+
+			return bean;
+		}
+
+		@Override
+		public Class<?> destinationClass() {
+			return WideDto.class;
+		}
+	};
+
+	/**
+	 * Number of elements in collections of {@link #COLLECTION} shape.
+	 */
+	private static final int COLLECTION_SIZE = 20;
+
+	/**
+	 * Create the source object to map.
+	 *
+	 * @return Source object.
+	 */
+	public abstract Object source();
+
+	/**
+	 * Get class of destination object.
+	 *
+	 * @return Destination class.
+	 */
+	public abstract Class<?> destinationClass();
+
+	private static FlatBean flatBean(long id) {
+		FlatBean bean = new FlatBean();
+		bean.setId(id);
+		bean.setFirstName("John");
+		bean.setLastName("Doe");
+		bean.setEmail("john.doe@example.com");
+		bean.setAge(42);
+		bean.setActive(true);
+		bean.setScore(12.5);
+		bean.setPhone("+33 1 23 45 67 89");
+		return bean;
+	}
+}
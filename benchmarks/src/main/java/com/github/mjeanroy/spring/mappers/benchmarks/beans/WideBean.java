@@ -0,0 +1,631 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.benchmarks.beans;
+
+/**
+ * Source bean with a large number (60) of simple properties.
+ */
+public class WideBean {
+
+	private String property01;
+
+	private Integer property02;
+
+	private Long property03;
+
+	private Double property04;
+
+	private Boolean property05;
+
+	private String property06;
+
+	private Integer property07;
+
+	private Long property08;
+
+	private Double property09;
+
+	private Boolean property10;
+
+	private String property11;
+
+	private Integer property12;
+
+	private Long property13;
+
+	private Double property14;
+
+	private Boolean property15;
+
+	private String property16;
+
+	private Integer property17;
+
+	private Long property18;
+
+	private Double property19;
+
+	private Boolean property20;
+
+	private String property21;
+
+	private Integer property22;
+
+	private Long property23;
+
+	private Double property24;
+
+	private Boolean property25;
+
+	private String property26;
+
+	private Integer property27;
+
+	private Long property28;
+
+	private Double property29;
+
+	private Boolean property30;
+
+	private String property31;
+
+	private Integer property32;
+
+	private Long property33;
+
+	private Double property34;
+
+	private Boolean property35;
+
+	private String property36;
+
+	private Integer property37;
+
+	private Long property38;
+
+	private Double property39;
+
+	private Boolean property40;
+
+	private String property41;
+
+	private Integer property42;
+
+	private Long property43;
+
+	private Double property44;
+
+	private Boolean property45;
+
+	private String property46;
+
+	private Integer property47;
+
+	private Long property48;
+
+	private Double property49;
+
+	private Boolean property50;
+
+	private String property51;
+
+	private Integer property52;
+
+	private Long property53;
+
+	private Double property54;
+
+	private Boolean property55;
+
+	private String property56;
+
+	private Integer property57;
+
+	private Long property58;
+
+	private Double property59;
+
+	private Boolean property60;
+
+	public String getProperty01() {
+		return property01;
+	}
+
+	public void setProperty01(String property01) {
+		this.property01 = property01;
+	}
+
+	public Integer getProperty02() {
+		return property02;
+	}
+
+	public void setProperty02(Integer property02) {
+		this.property02 = property02;
+	}
+
+	public Long getProperty03() {
+		return property03;
+	}
+
+	public void setProperty03(Long property03) {
+		this.property03 = property03;
+	}
+
+	public Double getProperty04() {
+		return property04;
+	}
+
+	public void setProperty04(Double property04) {
+		this.property04 = property04;
+	}
+
+	public Boolean getProperty05() {
+		return property05;
+	}
+
+	public void setProperty05(Boolean property05) {
+		this.property05 = property05;
+	}
+
+	public String getProperty06() {
+		return property06;
+	}
+
+	public void setProperty06(String property06) {
+		this.property06 = property06;
+	}
+
+	public Integer getProperty07() {
+		return property07;
+	}
+
+	public void setProperty07(Integer property07) {
+		this.property07 = property07;
+	}
+
+	public Long getProperty08() {
+		return property08;
+	}
+
+	public void setProperty08(Long property08) {
+		this.property08 = property08;
+	}
+
+	public Double getProperty09() {
+		return property09;
+	}
+
+	public void setProperty09(Double property09) {
+		this.property09 = property09;
+	}
+
+	public Boolean getProperty10() {
+		return property10;
+	}
+
+	public void setProperty10(Boolean property10) {
+		this.property10 = property10;
+	}
+
+	public String getProperty11() {
+		return property11;
+	}
+
+	public void setProperty11(String property11) {
+		this.property11 = property11;
+	}
+
+	public Integer getProperty12() {
+		return property12;
+	}
+
+	public void setProperty12(Integer property12) {
+		this.property12 = property12;
+	}
+
+	public Long getProperty13() {
+		return property13;
+	}
+
+	public void setProperty13(Long property13) {
+		this.property13 = property13;
+	}
+
+	public Double getProperty14() {
+		return property14;
+	}
+
+	public void setProperty14(Double property14) {
+		this.property14 = property14;
+	}
+
+	public Boolean getProperty15() {
+		return property15;
+	}
+
+	public void setProperty15(Boolean property15) {
+		this.property15 = property15;
+	}
+
+	public String getProperty16() {
+		return property16;
+	}
+
+	public void setProperty16(String property16) {
+		this.property16 = property16;
+	}
+
+	public Integer getProperty17() {
+		return property17;
+	}
+
+	public void setProperty17(Integer property17) {
+		this.property17 = property17;
+	}
+
+	public Long getProperty18() {
+		return property18;
+	}
+
+	public void setProperty18(Long property18) {
+		this.property18 = property18;
+	}
+
+	public Double getProperty19() {
+		return property19;
+	}
+
+	public void setProperty19(Double property19) {
+		this.property19 = property19;
+	}
+
+	public Boolean getProperty20() {
+		return property20;
+	}
+
+	public void setProperty20(Boolean property20) {
+		this.property20 = property20;
+	}
+
+	public String getProperty21() {
+		return property21;
+	}
+
+	public void setProperty21(String property21) {
+		this.property21 = property21;
+	}
+
+	public Integer getProperty22() {
+		return property22;
+	}
+
+	public void setProperty22(Integer property22) {
+		this.property22 = property22;
+	}
+
+	public Long getProperty23() {
+		return property23;
+	}
+
+	public void setProperty23(Long property23) {
+		this.property23 = property23;
+	}
+
+	public Double getProperty24() {
+		return property24;
+	}
+
+	public void setProperty24(Double property24) {
+		this.property24 = property24;
+	}
+
+	public Boolean getProperty25() {
+		return property25;
+	}
+
+	public void setProperty25(Boolean property25) {
+		this.property25 = property25;
+	}
+
+	public String getProperty26() {
+		return property26;
+	}
+
+	public void setProperty26(String property26) {
+		this.property26 = property26;
+	}
+
+	public Integer getProperty27() {
+		return property27;
+	}
+
+	public void setProperty27(Integer property27) {
+		this.property27 = property27;
+	}
+
+	public Long getProperty28() {
+		return property28;
+	}
+
+	public void setProperty28(Long property28) {
+		this.property28 = property28;
+	}
+
+	public Double getProperty29() {
+		return property29;
+	}
+
+	public void setProperty29(Double property29) {
+		this.property29 = property29;
+	}
+
+	public Boolean getProperty30() {
+		return property30;
+	}
+
+	public void setProperty30(Boolean property30) {
+		this.property30 = property30;
+	}
+
+	public String getProperty31() {
+		return property31;
+	}
+
+	public void setProperty31(String property31) {
+		this.property31 = property31;
+	}
+
+	public Integer getProperty32() {
+		return property32;
+	}
+
+	public void setProperty32(Integer property32) {
+		this.property32 = property32;
+	}
+
+	public Long getProperty33() {
+		return property33;
+	}
+
+	public void setProperty33(Long property33) {
+		this.property33 = property33;
+	}
+
+	public Double getProperty34() {
+		return property34;
+	}
+
+	public void setProperty34(Double property34) {
+		this.property34 = property34;
+	}
+
+	public Boolean getProperty35() {
+		return property35;
+	}
+
+	public void setProperty35(Boolean property35) {
+		this.property35 = property35;
+	}
+
+	public String getProperty36() {
+		return property36;
+	}
+
+	public void setProperty36(String property36) {
+		this.property36 = property36;
+	}
+
+	public Integer getProperty37() {
+		return property37;
+	}
+
+	public void setProperty37(Integer property37) {
+		this.property37 = property37;
+	}
+
+	public Long getProperty38() {
+		return property38;
+	}
+
+	public void setProperty38(Long property38) {
+		this.property38 = property38;
+	}
+
+	public Double getProperty39() {
+		return property39;
+	}
+
+	public void setProperty39(Double property39) {
+		this.property39 = property39;
+	}
+
+	public Boolean getProperty40() {
+		return property40;
+	}
+
+	public void setProperty40(Boolean property40) {
+		this.property40 = property40;
+	}
+
+	public String getProperty41() {
+		return property41;
+	}
+
+	public void setProperty41(String property41) {
+		this.property41 = property41;
+	}
+
+	public Integer getProperty42() {
+		return property42;
+	}
+
+	public void setProperty42(Integer property42) {
+		this.property42 = property42;
+	}
+
+	public Long getProperty43() {
+		return property43;
+	}
+
+	public void setProperty43(Long property43) {
+		this.property43 = property43;
+	}
+
+	public Double getProperty44() {
+		return property44;
+	}
+
+	public void setProperty44(Double property44) {
+		this.property44 = property44;
+	}
+
+	public Boolean getProperty45() {
+		return property45;
+	}
+
+	public void setProperty45(Boolean property45) {
+		this.property45 = property45;
+	}
+
+	public String getProperty46() {
+		return property46;
+	}
+
+	public void setProperty46(String property46) {
+		this.property46 = property46;
+	}
+
+	public Integer getProperty47() {
+		return property47;
+	}
+
+	public void setProperty47(Integer property47) {
+		this.property47 = property47;
+	}
+
+	public Long getProperty48() {
+		return property48;
+	}
+
+	public void setProperty48(Long property48) {
+		this.property48 = property48;
+	}
+
+	public Double getProperty49() {
+		return property49;
+	}
+
+	public void setProperty49(Double property49) {
+		this.property49 = property49;
+	}
+
+	public Boolean getProperty50() {
+		return property50;
+	}
+
+	public void setProperty50(Boolean property50) {
+		this.property50 = property50;
+	}
+
+	public String getProperty51() {
+		return property51;
+	}
+
+	public void setProperty51(String property51) {
+		this.property51 = property51;
+	}
+
+	public Integer getProperty52() {
+		return property52;
+	}
+
+	public void setProperty52(Integer property52) {
+		this.property52 = property52;
+	}
+
+	public Long getProperty53() {
+		return property53;
+	}
+
+	public void setProperty53(Long property53) {
+		this.property53 = property53;
+	}
+
+	public Double getProperty54() {
+		return property54;
+	}
+
+	public void setProperty54(Double property54) {
+		this.property54 = property54;
+	}
+
+	public Boolean getProperty55() {
+		return property55;
+	}
+
+	public void setProperty55(Boolean property55) {
+		this.property55 = property55;
+	}
+
+	public String getProperty56() {
+		return property56;
+	}
+
+	public void setProperty56(String property56) {
+		this.property56 = property56;
+	}
+
+	public Integer getProperty57() {
+		return property57;
+	}
+
+	public void setProperty57(Integer property57) {
+		this.property57 = property57;
+	}
+
+	public Long getProperty58() {
+		return property58;
+	}
+
+	public void setProperty58(Long property58) {
+		this.property58 = property58;
+	}
+
+	public Double getProperty59() {
+		return property59;
+	}
+
+	public void setProperty59(Double property59) {
+		this.property59 = property59;
+	}
+
+	public Boolean getProperty60() {
+		return property60;
+	}
+
+	public void setProperty60(Boolean property60) {
+		this.property60 = property60;
+	}
+}
@@ -0,0 +1,287 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.processor;
+
+import com.github.mjeanroy.spring.mappers.AbstractObjectMapper;
+import com.github.mjeanroy.spring.mappers.CompiledMapper;
+import com.github.mjeanroy.spring.mappers.impl.compiled.AbstractCompiledMapper;
+import com.github.mjeanroy.spring.mappers.impl.compiled.CompiledMappers;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor generating mappers of object mappers annotated
+ * with {@link CompiledMapper}.
+ *
+ * For each annotated class, source and destination types are resolved from the
+ * type arguments of {@link AbstractObjectMapper}, and a sub-class of {@link AbstractCompiledMapper}
+ * is generated: it copies each readable property of source type to the writable property
+ * of destination type with the same name, if types are compatible.
+ */
+@SupportedAnnotationTypes("com.github.mjeanroy.spring.mappers.CompiledMapper")
+public class CompiledMapperProcessor extends AbstractProcessor {
+
+	/**
+	 * Name of object mapper base class.
+	 */
+	private static final String OBJECT_MAPPER = AbstractObjectMapper.class.getName();
+
+	/**
+	 * Name of generated mapper base class.
+	 */
+	private static final String COMPILED_MAPPER = AbstractCompiledMapper.class.getName();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(CompiledMapper.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				error(element, "@CompiledMapper can only be applied to classes");
+				continue;
+			}
+
+			try {
+				generate((TypeElement) element);
+			}
+			catch (IOException ex) {
+				error(element, "Cannot generate compiled mapper: " + ex.getMessage());
+			}
+		}
+
+		return true;
+	}
+
+	private void generate(TypeElement element) throws IOException {
+		DeclaredType objectMapper = findSuperType(element.asType(), OBJECT_MAPPER);
+		if (objectMapper == null) {
+			error(element, "@CompiledMapper can only be applied to sub-classes of " + OBJECT_MAPPER);
+			return;
+		}
+
+		List<? extends TypeMirror> typeArguments = objectMapper.getTypeArguments();
+		if (typeArguments.size() != 2 || !isDeclared(typeArguments.get(0)) || !isDeclared(typeArguments.get(1))) {
+			error(element, "Source and destination types of @CompiledMapper class must be resolved to classes");
+			return;
+		}
+
+		DeclaredType source = (DeclaredType) typeArguments.get(0);
+		DeclaredType destination = (DeclaredType) typeArguments.get(1);
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(element);
+		if (!isAccessible(source, pkg) || !isAccessible(destination, pkg)) {
+			error(element, "Source and destination types of @CompiledMapper class must be accessible from package " + pkg.getQualifiedName());
+			return;
+		}
+
+		String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+		String qualifiedName = CompiledMappers.generatedClassName(packageName, simpleNames(element));
+		String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, element);
+		try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+			if (!packageName.isEmpty()) {
+				writer.println("package " + packageName + ";");
+				writer.println();
+			}
+
+			writer.println("/**");
+			writer.println(" * Mapper generated by {@code " + getClass().getSimpleName() + "} for {@link " + element.getQualifiedName() + "}.");
+			writer.println(" */");
+			writer.println("public final class " + simpleName + " extends " + COMPILED_MAPPER + "<" + source + ", " + destination + "> {");
+			writer.println();
+			writer.println("\tpublic " + simpleName + "() {");
+			writer.println("\t\tsuper(" + erasure(source) + ".class, " + erasure(destination) + ".class);");
+			writer.println("\t}");
+			writer.println();
+			writer.println("\t@Override");
+			writer.println("\tprotected void copy(" + source + " source, " + destination + " destination) {");
+			for (String statement : copyStatements(source, destination)) {
+				writer.println("\t\t" + statement);
+			}
+			writer.println("\t}");
+			writer.println("}");
+		}
+	}
+
+	/**
+	 * Build statements copying properties of source type to destination type.
+	 *
+	 * @param source Source type.
+	 * @param destination Destination type.
+	 * @return Statements.
+	 */
+	private List<String> copyStatements(DeclaredType source, DeclaredType destination) {
+		Types types = processingEnv.getTypeUtils();
+		List<ExecutableElement> sourceMethods = publicMethods(source);
+		List<String> statements = new ArrayList<>();
+
+		for (ExecutableElement setter : publicMethods(destination)) {
+			String setterName = setter.getSimpleName().toString();
+			if (!isSetter(setter, setterName)) {
+				continue;
+			}
+
+			ExecutableElement getter = findGetter(sourceMethods, setterName.substring(3));
+			if (getter == null) {
+				continue;
+			}
+
+			TypeMirror valueType = ((ExecutableType) types.asMemberOf(source, getter)).getReturnType();
+			TypeMirror propertyType = ((ExecutableType) types.asMemberOf(destination, setter)).getParameterTypes().get(0);
+			if (types.isAssignable(valueType, propertyType)) {
+				statements.add("destination." + setterName + "(source." + getter.getSimpleName() + "());");
+			}
+		}
+
+		return statements;
+	}
+
+	private List<ExecutableElement> publicMethods(DeclaredType type) {
+		Elements elements = processingEnv.getElementUtils();
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers((TypeElement) type.asElement()))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+				methods.add(method);
+			}
+		}
+
+		return methods;
+	}
+
+	private static boolean isSetter(ExecutableElement method, String name) {
+		return name.length() > 3
+				&& name.startsWith("set")
+				&& method.getParameters().size() == 1
+				&& method.getReturnType().getKind() == TypeKind.VOID;
+	}
+
+	private static ExecutableElement findGetter(List<ExecutableElement> methods, String property) {
+		for (ExecutableElement method : methods) {
+			if (!method.getParameters().isEmpty()) {
+				continue;
+			}
+
+			String name = method.getSimpleName().toString();
+			TypeKind returnKind = method.getReturnType().getKind();
+			if (name.equals("get" + property) && returnKind != TypeKind.VOID) {
+				return method;
+			}
+
+			if (name.equals("is" + property) && returnKind == TypeKind.BOOLEAN) {
+				return method;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Find super type (i.e class or interface) with given name.
+	 * Type arguments of returned type are resolved against given type.
+	 *
+	 * @param type Type.
+	 * @param name Qualified name of super type.
+	 * @return Super type, {@code null} if it is not found.
+	 */
+	private DeclaredType findSuperType(TypeMirror type, String name) {
+		Types types = processingEnv.getTypeUtils();
+		LinkedList<TypeMirror> queue = new LinkedList<>();
+		queue.add(type);
+
+		while (!queue.isEmpty()) {
+			TypeMirror current = queue.removeFirst();
+			if (isDeclared(current)) {
+				TypeElement element = (TypeElement) ((DeclaredType) current).asElement();
+				if (element.getQualifiedName().contentEquals(name)) {
+					return (DeclaredType) current;
+				}
+			}
+
+			queue.addAll(types.directSupertypes(current));
+		}
+
+		return null;
+	}
+
+	private String erasure(DeclaredType type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private static boolean isDeclared(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED;
+	}
+
+	private boolean isAccessible(DeclaredType type, PackageElement pkg) {
+		Element element = type.asElement();
+		for (Element current = element; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+			if (!current.getModifiers().contains(Modifier.PUBLIC) && !processingEnv.getElementUtils().getPackageOf(current).equals(pkg)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static String[] simpleNames(TypeElement element) {
+		LinkedList<String> names = new LinkedList<>();
+		for (Element current = element; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+			names.addFirst(current.getSimpleName().toString());
+		}
+
+		return names.toArray(new String[names.size()]);
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.processor;
+
+import com.github.mjeanroy.spring.mappers.AbstractInMemoryObjectMapper;
+import com.github.mjeanroy.spring.mappers.AbstractLazyObjectMapper;
+import com.github.mjeanroy.spring.mappers.CompiledMapper;
+import com.github.mjeanroy.spring.mappers.Mapper;
+
+@CompiledMapper
+public class BarMapper extends AbstractInMemoryObjectMapper<Bar, BarDto> {
+
+	public BarMapper(Mapper mapper) {
+		super(mapper);
+	}
+
+	@CompiledMapper
+	public static class LazyBarMapper extends AbstractLazyObjectMapper<Bar, BarDto> {
+
+		public LazyBarMapper(Mapper mapper) {
+			super(mapper);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.processor;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.compiled.AbstractCompiledMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledMapperProcessorTest {
+
+	private Mapper mapper;
+
+	@Before
+	public void setUp() {
+		// Generated mappers must be used instead of this one.
+		mapper = new Mapper() {
+			@Override
+			public <T, U> U map(T source, ObjectFactory<U, T> factory) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public <T, U> void map(T source, U destination) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Object getDelegate() {
+				return null;
+			}
+		};
+	}
+
+	@Test
+	public void it_should_generate_mapper() throws Exception {
+		Class<?> klass = Class.forName("com.github.mjeanroy.spring.mappers.processor.BarMapper_CompiledMapper");
+		assertThat(AbstractCompiledMapper.class.isAssignableFrom(klass)).isTrue();
+	}
+
+	@Test
+	public void it_should_generate_mapper_of_nested_class() throws Exception {
+		Class<?> klass = Class.forName("com.github.mjeanroy.spring.mappers.processor.BarMapper_LazyBarMapper_CompiledMapper");
+		assertThat(AbstractCompiledMapper.class.isAssignableFrom(klass)).isTrue();
+	}
+
+	@Test
+	public void it_should_map_with_generated_mapper() {
+		Bar bar = bar();
+
+		BarDto dto = new BarMapper(mapper).map(bar);
+
+		assertThat(dto.getId()).isEqualTo(bar.getId());
+		assertThat(dto.getName()).isEqualTo(bar.getName());
+		assertThat(dto.getCount()).isEqualTo(bar.getCount());
+		assertThat(dto.isActive()).isEqualTo(bar.isActive());
+		assertThat(dto.getTags()).isSameAs(bar.getTags());
+		assertThat(dto.getLabel()).isNull();
+	}
+
+	@Test
+	public void it_should_map_iterables_with_generated_mapper() {
+		Bar bar = bar();
+		ObjectMapper<Bar, BarDto> objectMapper = new BarMapper.LazyBarMapper(mapper);
+
+		Iterable<BarDto> dtos = objectMapper.map(asList(bar));
+
+		BarDto dto = dtos.iterator().next();
+		assertThat(dto.getId()).isEqualTo(bar.getId());
+		assertThat(dto.getName()).isEqualTo(bar.getName());
+	}
+
+	private static Bar bar() {
+		List<String> tags = asList("foo", "bar");
+
+		Bar bar = new Bar();
+		bar.setId(1L);
+		bar.setName("bar");
+		bar.setCount(2);
+		bar.setActive(true);
+		bar.setTags(tags);
+		return bar;
+	}
+}
@@ -25,12 +25,16 @@
 package com.github.mjeanroy.spring.mappers;
 
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.jfr.MappingEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
+
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
 
 /**
  * In memory mapper implementation.
@@ -54,6 +58,16 @@ public abstract class AbstractInMemoryObjectMapper<T, U> extends AbstractObjectM
 	 */
 	private static final Logger log = LoggerFactory.getLogger(AbstractInMemoryObjectMapper.class);
 
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(AbstractInMemoryObjectMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
 	/**
 	 * Create new in memory mapper.
 	 * Generic types will be detected at object creation.
@@ -90,27 +104,67 @@ public abstract class AbstractInMemoryObjectMapper<T, U> extends AbstractObjectM
 	 * Create new in memory mapper.
 	 *
 	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
 	 * @param klassU Destination type.
 	 * @param factory Factory used to instantiate destination object.
 	 */
-	AbstractInMemoryObjectMapper(Mapper mapper, Class<U> klassU, ObjectFactory<U, T> factory) {
-		super(mapper, klassU, factory);
+	AbstractInMemoryObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		super(mapper, klassT, klassU, factory);
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Collection<U> map(Iterable<T> sources) {
 		log.debug("Map source of iterables");
+		final Object event = MappingEvents.beginCollectionMapping();
 		final Collection<U> results = initIterable(sources);
 		log.trace(" - Target collection created, start mapping each entries");
 
+		if (isBatchMapping() && sources instanceof List && results instanceof List) {
+			log.trace(" - Map source list as a batch");
+			doMapAll((List<T>) sources, (List<U>) results);
+		}
+		else {
+			doMapEach(sources, results);
+		}
+
+		if (event != null) {
+			MappingEvents.commitCollectionMapping(event, getSourceClass(), getDestinationClass(), getMapper().getClass(), results.size(), false);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Check if source lists are mapped as a batch with {@link #doMapAll(List, List)}, instead
+	 * of mapping each source object with {@link #map(Object)}.
+	 *
+	 * Default is {@code false}: batch mapping resolves mapping strategy once for the whole list,
+	 * but bypasses {@link #doMap(Object)} (and per element logs and events). Override to return
+	 * {@code true} if {@link #doMap(Object)} is not customized.
+	 *
+	 * @return Batch mapping flag.
+	 */
+	protected boolean isBatchMapping() {
+		return false;
+	}
+
+	/**
+	 * Map each source object and add results to given destination collection.
+	 *
+	 * @param sources Source objects.
+	 * @param results Destination collection.
+	 */
+	private void doMapEach(Iterable<T> sources, Collection<U> results) {
+
 		for (T source : sources) {
-			log.trace("  --> Mapping: {}", source);
 			final U destination = map(source);
-			log.trace("  --> Result is: {}", destination);
+			if (ELEMENTS_TRACE) {
+				elementsLog.trace("  --> Mapped {} to: {}", source, destination);
+			}
+
 			results.add(destination);
 		}
-
-		return results;
 	}
 
 	/**
@@ -26,14 +26,21 @@ package com.github.mjeanroy.spring.mappers;
 
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import com.github.mjeanroy.spring.mappers.iterables.LazyIterableMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableListMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableMapMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
 /**
  * Lazy mapper implementation.
  *
  * This implementation returns iterable of destination objects that will be
- * mapped during explicit iteration.
+ * mapped during explicit iteration, and maps of destination objects whose
+ * values are mapped when they are read.
  * Default implementation is equivalent to a {@link AbstractLazyObjectMapper}.
  *
  * This class is an abstract class because it needs to be sub-classed to be able to use
@@ -84,17 +91,58 @@ public abstract class AbstractLazyObjectMapper<T, U> extends AbstractObjectMappe
 	 * Create new lazy mapper.
 	 *
 	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
 	 * @param klassU Destination type.
 	 * @param factory Factory used to instantiate destination object.
 	 */
-	AbstractLazyObjectMapper(Mapper mapper, Class<U> klassU, ObjectFactory<U, T> factory) {
-		super(mapper, klassU, factory);
+	AbstractLazyObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		super(mapper, klassT, klassU, factory);
 	}
 
+	/**
+	 * Map given iterable lazily: elements are mapped during iteration.
+	 * If source is a random access list, returned iterable is an unmodifiable random access list
+	 * view of source list (see {@link LazyUnmodifiableListMapper}): elements are mapped when they
+	 * are accessed, so a sub list (or an access by index) maps only its own elements.
+	 *
+	 * @param sources Source objects.
+	 * @return Lazy iterable of destination objects.
+	 */
 	@Override
 	public Iterable<U> map(Iterable<T> sources) {
+		if (sources instanceof List && sources instanceof RandomAccess) {
+			log.debug("Creating lazy list destination");
+			return new LazyUnmodifiableListMapper<>((List<T>) sources, this);
+		}
+
 		log.debug("Creating lazy iterable destination");
 		// Do not copy to a collection, keep it really lazy !
 		return new LazyIterableMapper<>(sources, this);
 	}
+
+	/**
+	 * Map values of given map lazily: returned map is an unmodifiable view of source map,
+	 * values are mapped when they are read, so reading a few keys of a large map only maps
+	 * these keys. Values are mapped again on each read, unless {@link #memoizeMapValues()}
+	 * returns {@code true}.
+	 *
+	 * @param sources Source map.
+	 * @param <K> Type of keys.
+	 * @return Lazy map of destination objects.
+	 */
+	@Override
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		log.debug("Creating lazy map destination");
+		return new LazyUnmodifiableMapMapper<>(sources, this, memoizeMapValues());
+	}
+
+	/**
+	 * Check if values of maps returned by {@link #map(Map)} must be stored once mapped.
+	 * Default is {@code false}, override to store mapped values when maps are read several times.
+	 *
+	 * @return Memoization flag.
+	 */
+	protected boolean memoizeMapValues() {
+		return false;
+	}
 }
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.iterables.Iterables;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableMapMapper;
+import com.github.mjeanroy.spring.mappers.iterables.MemoizedUnmodifiableListMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Memoized mapper implementation.
+ *
+ * This implementation returns a list of destination objects that will be
+ * mapped on first access: each element is mapped at most once, so iterating the
+ * result several times does not map elements again. Values of maps are mapped
+ * the same way, when they are read.
+ *
+ * This class is an abstract class because it needs to be sub-classed to be able to use
+ * constructor without generic types.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+public abstract class AbstractMemoizedObjectMapper<T, U> extends AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(AbstractMemoizedObjectMapper.class);
+
+	/**
+	 * Create new memoized mapper.
+	 * Generic types will be detected at object creation.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 */
+	protected AbstractMemoizedObjectMapper(Mapper mapper) {
+		super(mapper);
+	}
+
+	/**
+	 * Create new memoized mapper.
+	 * Generic types will be detected at object creation.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param factory Object factory used to create destination empty bean.
+	 */
+	protected AbstractMemoizedObjectMapper(Mapper mapper, ObjectFactory<U, T> factory) {
+		super(mapper, factory);
+	}
+
+	/**
+	 * Create new memoized mapper.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
+	 * @param klassU Destination type.
+	 */
+	AbstractMemoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
+		super(mapper, klassT, klassU);
+	}
+
+	/**
+	 * Create new memoized mapper.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
+	 * @param klassU Destination type.
+	 * @param factory Factory used to instantiate destination object.
+	 */
+	AbstractMemoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		super(mapper, klassT, klassU, factory);
+	}
+
+	@Override
+	public Iterable<U> map(Iterable<T> sources) {
+		log.debug("Creating memoized list destination");
+		return new MemoizedUnmodifiableListMapper<>(Iterables.toList(sources), this);
+	}
+
+	@Override
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		log.debug("Creating memoized map destination");
+		return new LazyUnmodifiableMapMapper<>(sources, this, true);
+	}
+}
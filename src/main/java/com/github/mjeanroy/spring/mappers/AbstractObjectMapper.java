@@ -25,8 +25,12 @@
 package com.github.mjeanroy.spring.mappers;
 
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.compiled.AbstractCompiledMapper;
+import com.github.mjeanroy.spring.mappers.impl.compiled.CompiledMappers;
 import com.github.mjeanroy.spring.mappers.iterables.Iterables;
 import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableCollectionMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableListMapper;
+import com.github.mjeanroy.spring.mappers.jfr.MappingEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.GenericTypeResolver;
@@ -34,7 +38,9 @@ import org.springframework.core.GenericTypeResolver;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 import static com.github.mjeanroy.spring.mappers.factory.ObjectFactories.reflectionObjectFactory;
 
@@ -53,12 +59,27 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 	 */
 	private static final Logger log = LoggerFactory.getLogger(AbstractObjectMapper.class);
 
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(AbstractObjectMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
 	/**
 	 * Mapper that will be used internally to map source object
 	 * to destination object.
 	 */
 	private final Mapper mapper;
 
+	/**
+	 * Class of source objects.
+	 */
+	private final Class<T> klassT;
+
 	/**
 	 * Class of destination objects.
 	 */
@@ -73,29 +94,59 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 	 * Create new mapper.
 	 * Generic types will be detected at object creation.
 	 *
+	 * If this class is annotated with {@link CompiledMapper} and a mapper has been generated
+	 * at compile time, generated mapper is used instead of given mapper.
+	 *
 	 * @param mapper Mapper used to map source to destination.
 	 */
 	@SuppressWarnings("unchecked")
 	protected AbstractObjectMapper(Mapper mapper) {
-		Class<?>[] klasses = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractObjectMapper.class);
+		notNull(mapper, "Mapper must not be null");
 
-		this.mapper = notNull(mapper, "Mapper must not be null");
-		this.klassU = (Class<U>) klasses[1];
-		this.factory = reflectionObjectFactory(klassU, (Class<T>) klasses[0]);
+		AbstractCompiledMapper<T, U> compiledMapper = CompiledMappers.lookup(getClass());
+		if (compiledMapper != null) {
+			log.debug("Use compiled mapper: {}", compiledMapper);
+			this.mapper = compiledMapper;
+			this.klassT = compiledMapper.getSourceClass();
+			this.klassU = compiledMapper.getDestinationClass();
+		}
+		else {
+			Class<?>[] klasses = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractObjectMapper.class);
+			this.mapper = mapper;
+			this.klassT = (Class<T>) klasses[0];
+			this.klassU = (Class<U>) klasses[1];
+		}
+
+		this.factory = reflectionObjectFactory(klassU, klassT);
 	}
 
 	/**
 	 * Create new mapper.
 	 * Generic types will be detected at object creation.
 	 *
+	 * If this class is annotated with {@link CompiledMapper} and a mapper has been generated
+	 * at compile time, generated mapper is used instead of given mapper.
+	 *
 	 * @param mapper Mapper used to map source to destination.
 	 */
 	@SuppressWarnings("unchecked")
 	protected AbstractObjectMapper(Mapper mapper, ObjectFactory<U, T> factory) {
-		Class<?>[] klasses = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractObjectMapper.class);
+		notNull(mapper, "Mapper must not be null");
+
+		AbstractCompiledMapper<T, U> compiledMapper = CompiledMappers.lookup(getClass());
+		if (compiledMapper != null) {
+			log.debug("Use compiled mapper: {}", compiledMapper);
+			this.mapper = compiledMapper;
+			this.klassT = compiledMapper.getSourceClass();
+			this.klassU = compiledMapper.getDestinationClass();
+		}
+		else {
+			Class<?>[] klasses = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractObjectMapper.class);
+			this.mapper = mapper;
+			this.klassT = (Class<T>) klasses[0];
+			this.klassU = (Class<U>) klasses[1];
+		}
 
-		this.mapper = notNull(mapper, "Mapper must not be null");
-		this.klassU = (Class<U>) klasses[1];
 		this.factory = notNull(factory, "Factory must not be null");
 	}
 
@@ -111,7 +162,7 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 	 */
 	@SuppressWarnings("unchecked")
 	AbstractObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
-		this(mapper, klassU, reflectionObjectFactory(klassU, klassT));
+		this(mapper, klassT, klassU, reflectionObjectFactory(klassU, klassT));
 	}
 
 	/**
@@ -121,11 +172,13 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 	 * with automatic type detection instead.
 	 *
 	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
 	 * @param klassU Destination type.
 	 * @param factory Factory used to instantiate destination object.
 	 */
-	AbstractObjectMapper(Mapper mapper, Class<U> klassU, ObjectFactory<U, T> factory) {
+	AbstractObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
 		this.mapper = notNull(mapper, "Mapper must not be null");
+		this.klassT = notNull(klassT, "Class T must bot be null");
 		this.klassU = notNull(klassU, "Class U must bot be null");
 		this.factory = notNull(factory, "Factory must bot be null");
 	}
@@ -135,32 +188,87 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 	 *
 	 * @return Mapper.
 	 */
-	protected Mapper getMapper() {
+	public Mapper getMapper() {
 		return mapper;
 	}
 
+	/**
+	 * Get class of source objects.
+	 *
+	 * @return Source class.
+	 */
+	public Class<T> getSourceClass() {
+		return klassT;
+	}
+
+	/**
+	 * Get class of destination objects.
+	 *
+	 * @return Destination class.
+	 */
+	public Class<U> getDestinationClass() {
+		return klassU;
+	}
+
 	@Override
 	public U map(T source) {
-		log.debug("Map source object: {}", source);
-		return source == null ? null : doMap(source);
+		if (ELEMENTS_TRACE) {
+			elementsLog.trace("Map source object: {}", source);
+		}
+
+		if (source == null) {
+			return null;
+		}
+
+		final Object event = MappingEvents.beginMapping();
+		final U destination = doMap(source);
+		if (event != null) {
+			MappingEvents.commitMapping(event, source.getClass(), klassU, mapper.getClass());
+		}
+
+		return destination;
 	}
 
 	protected U doMap(T source) {
-		log.debug("Creating destination object using mapper: {}", mapper);
-		log.debug("  - Factory: {}", factory);
-		log.debug("  - Target class: {}", klassU);
+		if (ELEMENTS_TRACE) {
+			elementsLog.trace("Creating destination object using mapper: {}", mapper);
+			elementsLog.trace("  - Factory: {}", factory);
+			elementsLog.trace("  - Target class: {}", klassU);
+		}
+
 		return mapper.map(source, factory);
 	}
 
+	/**
+	 * Map list of source objects and add results to given destination list, in the same order.
+	 * Default is to use batch operation of mapper implementation (see {@link Mapper#mapAll(List, ObjectFactory, List)}),
+	 * so that mapping strategy is resolved once for the whole list.
+	 *
+	 * @param sources Source objects.
+	 * @param destinations Destination list.
+	 */
+	protected void doMapAll(List<T> sources, List<U> destinations) {
+		if (log.isDebugEnabled()) {
+			log.debug("Mapping {} source objects using mapper: {}", sources.size(), mapper);
+		}
+
+		mapper.mapAll(sources, factory, destinations);
+	}
+
 	@Override
 	public Iterable<U> map(Iterable<T> sources) {
 		log.debug("Mapping source of iterables");
 
-		// Copy to list implementation, this is not a real lazy implementation since
-		// original list must be copied in memory even if it is not already a collection
-		// If original sources elements is already a collection, this is not really
-		// important, since it is already in memory !
+		// Copy to a random access list (unless sources is an immutable list): returned list is
+		// a view of this copy, so it does not change if sources is modified later.
 		List<T> list = Iterables.toList(sources);
+
+		// Random access list can be exposed as a lazy list: elements are mapped when
+		// they are accessed, so a sub list maps only its own elements.
+		if (list instanceof RandomAccess) {
+			return new LazyUnmodifiableListMapper<>(list, this);
+		}
+
 		return new LazyUnmodifiableCollectionMapper<>(list, this);
 	}
 
@@ -171,10 +279,10 @@ public abstract class AbstractObjectMapper<T, U> implements ObjectMapper<T, U> {
 		Map<K, U> map = initMap(sources);
 		for (Map.Entry<K, T> entry : sources.entrySet()) {
 			final T source = entry.getValue();
-			log.trace("  --> Mapping destination key from: {}", source);
-
 			final U destination = map(source);
-			log.trace("  --> Result: {}", destination);
+			if (ELEMENTS_TRACE) {
+				elementsLog.trace("  --> Mapped value of key {} to: {}", entry.getKey(), destination);
+			}
 
 			map.put(entry.getKey(), destination);
 		}
@@ -0,0 +1,262 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel in memory mapper implementation.
+ *
+ * This implementation behaves like {@link AbstractInMemoryObjectMapper}, except that large
+ * random access lists (i.e with a size greater than or equal to {@link #getParallelismThreshold()})
+ * are split into chunks mapped in parallel on a {@link ForkJoinPool}.
+ *
+ * In this case, order of source elements is preserved: destination objects are written in a
+ * pre-sized array, then added to the collection created by {@link #initIterable(Iterable)}, so
+ * that returned collection does not depend on the number of source elements.
+ * Smaller collections, and iterables that are not random access lists, are mapped sequentially.
+ *
+ * Values of large maps (i.e with a size greater than or equal to {@link #getMapParallelismThreshold()})
+ * are mapped in parallel the same way: destination map is created by {@link #initMap(Map)} and filled
+ * in source iteration order once all values are mapped, so that returned map does not depend on the
+ * number of source entries either.
+ *
+ * Since mapping may be executed by several threads, mapper and object factory must be thread safe.
+ *
+ * This class is an abstract class because it needs to be sub-classed to be able to use
+ * constructor without generic types.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+public abstract class AbstractParallelObjectMapper<T, U> extends AbstractInMemoryObjectMapper<T, U> implements ObjectMapper<T, U> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(AbstractParallelObjectMapper.class);
+
+	/**
+	 * Default minimum size of source lists mapped in parallel.
+	 */
+	public static final int DEFAULT_PARALLELISM_THRESHOLD = 1000;
+
+	/**
+	 * Number of chunks created for each thread of the pool: having more chunks
+	 * than threads balances work if some elements are slower to map.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/**
+	 * Create new parallel mapper.
+	 * Generic types will be detected at object creation.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 */
+	protected AbstractParallelObjectMapper(Mapper mapper) {
+		super(mapper);
+	}
+
+	/**
+	 * Create new parallel mapper.
+	 * Generic types will be detected at object creation.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param factory Object factory used to create destination empty bean.
+	 */
+	protected AbstractParallelObjectMapper(Mapper mapper, ObjectFactory<U, T> factory) {
+		super(mapper, factory);
+	}
+
+	/**
+	 * Create new parallel mapper.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
+	 * @param klassU Destination type.
+	 */
+	AbstractParallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
+		super(mapper, klassT, klassU);
+	}
+
+	/**
+	 * Create new parallel mapper.
+	 *
+	 * @param mapper Mapper used to map source to destination.
+	 * @param klassT Source type.
+	 * @param klassU Destination type.
+	 * @param factory Factory used to instantiate destination object.
+	 */
+	AbstractParallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		super(mapper, klassT, klassU, factory);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Collection<U> map(Iterable<T> sources) {
+		if (sources instanceof List && sources instanceof RandomAccess) {
+			final List<T> list = (List<T>) sources;
+			final int size = list.size();
+			if (size >= getParallelismThreshold()) {
+				log.debug("Map {} source objects in parallel", size);
+				final Object[] mapped = new Object[size];
+				mapInParallel(list, mapped);
+
+				final Collection<U> results = initIterable(sources);
+				results.addAll((List<U>) Arrays.asList(mapped));
+				return results;
+			}
+		}
+
+		return super.map(sources);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		final int size = sources.size();
+		if (size < getMapParallelismThreshold()) {
+			return super.map(sources);
+		}
+
+		log.debug("Map {} source values in parallel", size);
+
+		// Entries are copied to arrays, so that they can be split in chunks. Values
+		// are then replaced by mapped values: each slot is read and written by the same task.
+		final Object[] keys = new Object[size];
+		final Object[] values = new Object[size];
+		int i = 0;
+		for (Map.Entry<K, T> entry : sources.entrySet()) {
+			keys[i] = entry.getKey();
+			values[i] = entry.getValue();
+			i++;
+		}
+
+		mapInParallel((List<T>) Arrays.asList(values), values);
+
+		final Map<K, U> results = initMap(sources);
+		for (int j = 0; j < size; j++) {
+			results.put((K) keys[j], (U) values[j]);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Map each source object to the slot of results array with the same index, using
+	 * tasks executed on the fork join pool.
+	 *
+	 * @param sources Source objects.
+	 * @param results Results array.
+	 */
+	private void mapInParallel(List<T> sources, Object[] results) {
+		final int size = sources.size();
+		final ForkJoinPool pool = getForkJoinPool();
+		final int chunkSize = Math.max(1, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+		log.trace("  - Chunk size: {}", chunkSize);
+		pool.invoke(new MapTask<>(this, sources, results, 0, size, chunkSize));
+	}
+
+	/**
+	 * Get pool used to map elements in parallel.
+	 * Default is to use the common pool.
+	 *
+	 * @return Fork join pool.
+	 */
+	protected ForkJoinPool getForkJoinPool() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Get minimum size of source lists mapped in parallel.
+	 * Default is {@link #DEFAULT_PARALLELISM_THRESHOLD}.
+	 *
+	 * @return Threshold.
+	 */
+	protected int getParallelismThreshold() {
+		return DEFAULT_PARALLELISM_THRESHOLD;
+	}
+
+	/**
+	 * Get minimum size of source maps mapped in parallel.
+	 * Default is to use {@link #getParallelismThreshold()}.
+	 *
+	 * @return Threshold.
+	 */
+	protected int getMapParallelismThreshold() {
+		return getParallelismThreshold();
+	}
+
+	/**
+	 * Task mapping a range of source list to the same range of results array.
+	 * Range is split in two sub-tasks until it is smaller than chunk size.
+	 *
+	 * @param <T> Type of source objects.
+	 * @param <U> Type of destination objects.
+	 */
+	private static class MapTask<T, U> extends RecursiveAction {
+		private final ObjectMapper<T, U> mapper;
+		private final List<T> sources;
+		private final Object[] results;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		private MapTask(ObjectMapper<T, U> mapper, List<T> sources, Object[] results, int from, int to, int chunkSize) {
+			this.mapper = mapper;
+			this.sources = sources;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				for (int i = from; i < to; i++) {
+					results[i] = mapper.map(sources.get(i));
+				}
+			}
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(
+						new MapTask<>(mapper, sources, results, from, middle, chunkSize),
+						new MapTask<>(mapper, sources, results, middle, to, chunkSize)
+				);
+			}
+		}
+	}
+}
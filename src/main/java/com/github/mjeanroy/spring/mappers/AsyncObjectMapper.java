@@ -0,0 +1,209 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Object mapper decorator that can map source objects asynchronously, using an executor.
+ *
+ * This mapper should be used when destination objects are created by an {@link com.github.mjeanroy.spring.mappers.factory.ObjectFactory}
+ * that blocks (for example, a factory that fetches default values of destination objects): with
+ * {@link #mapAllAsync(Iterable)}, each source object is mapped by its own task, so that blocking
+ * operations overlap.
+ *
+ * Default executor (see {@link #defaultExecutor()}) creates a virtual thread per task when running
+ * on JDK 21 or later, so that blocking operations do not tie up platform threads. Otherwise, it is a pool
+ * of at most {@link #DEFAULT_POOL_SIZE} daemon threads (idle threads are stopped), since blocking tasks must
+ * not run on the {@link java.util.concurrent.ForkJoinPool#commonPool()}, shared with parallel streams and parallel
+ * object mappers: tasks submitted when all threads are busy are queued, so at most {@link #DEFAULT_POOL_SIZE}
+ * blocking mappings overlap. Use an explicit executor to choose another limit.
+ *
+ * Synchronous mapping methods are delegated as is.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+public class AsyncObjectMapper<T, U> implements ObjectMapper<T, U> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(AsyncObjectMapper.class);
+
+	/**
+	 * Maximum number of threads of default executor, when virtual threads are not available.
+	 */
+	public static final int DEFAULT_POOL_SIZE = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+	/**
+	 * Mapper used to map source objects.
+	 */
+	private final ObjectMapper<T, U> delegate;
+
+	/**
+	 * Executor used to run mapping tasks.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Create mapper.
+	 *
+	 * @param delegate Mapper used to map source objects.
+	 * @param executor Executor used to run mapping tasks.
+	 */
+	AsyncObjectMapper(ObjectMapper<T, U> delegate, Executor executor) {
+		this.delegate = notNull(delegate, "Delegate mapper must not be null");
+		this.executor = notNull(executor, "Executor must not be null");
+	}
+
+	/**
+	 * Get default executor of asynchronous mappers: a virtual thread per task executor
+	 * if available (JDK 21 or later), a pool of at most {@link #DEFAULT_POOL_SIZE} daemon threads otherwise.
+	 *
+	 * @return Default executor.
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Get executor used to run mapping tasks.
+	 *
+	 * @return Executor.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public U map(T source) {
+		return delegate.map(source);
+	}
+
+	@Override
+	public Iterable<U> map(Iterable<T> sources) {
+		return delegate.map(sources);
+	}
+
+	@Override
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		return delegate.map(sources);
+	}
+
+	/**
+	 * Map source object asynchronously.
+	 *
+	 * @param source Source object.
+	 * @return Future completed with destination object, or completed exceptionally if mapping failed.
+	 */
+	public CompletableFuture<U> mapAsync(T source) {
+		return CompletableFuture.supplyAsync(() -> delegate.map(source), executor);
+	}
+
+	/**
+	 * Map source objects asynchronously: each source object is mapped by its own task.
+	 *
+	 * @param sources Source objects.
+	 * @return Future completed with destination objects (in the same order as source objects), or
+	 * completed exceptionally if mapping of a source object failed.
+	 */
+	public CompletableFuture<List<U>> mapAllAsync(Iterable<T> sources) {
+		log.debug("Map source of iterables asynchronously");
+
+		final int size = sources instanceof Collection ? ((Collection<T>) sources).size() : 0;
+		final List<CompletableFuture<U>> futures = size > 0 ? new ArrayList<>(size) : new ArrayList<>();
+		for (T source : sources) {
+			futures.add(mapAsync(source));
+		}
+
+		log.trace("  - {} mapping tasks submitted", futures.size());
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).thenApply(ignored -> {
+			final List<U> results = new ArrayList<>(futures.size());
+			for (CompletableFuture<U> future : futures) {
+				results.add(future.join());
+			}
+
+			return results;
+		});
+	}
+
+	/**
+	 * Holder of default executor, created on first use.
+	 */
+	private static class DefaultExecutorHolder {
+
+		private static final Executor EXECUTOR = create();
+
+		private static Executor create() {
+			try {
+				// Use reflection, since virtual threads are not available at compile time.
+				Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				Executor executor = (Executor) method.invoke(null);
+				log.debug("Use virtual thread per task executor for asynchronous mapping");
+				return executor;
+			}
+			catch (Exception ex) {
+				log.debug("Virtual threads are not available, use pool of {} threads for asynchronous mapping", DEFAULT_POOL_SIZE);
+				ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory());
+				executor.allowCoreThreadTimeOut(true);
+				return executor;
+			}
+		}
+	}
+
+	/**
+	 * Factory of daemon threads, so that default executor does not prevent JVM shutdown.
+	 */
+	private static class DaemonThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "async-object-mapper-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
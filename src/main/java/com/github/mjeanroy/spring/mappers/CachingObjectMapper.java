@@ -0,0 +1,284 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.commons.SegmentedLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Object mapper decorator that caches destination objects across mapping operations.
+ *
+ * This mapper should be used to map reference data (for example, countries or currencies): since the
+ * same destination instance is returned for the same source, destination objects must be considered as
+ * immutable by callers.
+ *
+ * Cache is bounded, and uses a segmented LRU eviction policy (see {@link SegmentedLruCache}). Cache keys
+ * are either:
+ * <ul>
+ *   <li>Extracted from source objects using a key extractor (for example, the identifier of source objects).</li>
+ *   <li>Source objects themselves, compared by identity and weakly referenced: an entry is removed once its source
+ *   object has been garbage collected.</li>
+ * </ul>
+ *
+ * Collections returned by {@link #map(Iterable)} and {@link #map(Map)} are eager collections.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+public class CachingObjectMapper<T, U> implements ObjectMapper<T, U> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(CachingObjectMapper.class);
+
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(CachingObjectMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
+	/**
+	 * Mapper used to map source objects that are not in cache.
+	 */
+	private final ObjectMapper<T, U> delegate;
+
+	/**
+	 * Extract cache key from source objects, {@code null} to use weak identity keys.
+	 */
+	private final Function<? super T, ?> keyExtractor;
+
+	/**
+	 * Cached destination objects.
+	 */
+	private final SegmentedLruCache<Object, U> cache;
+
+	/**
+	 * Queue of weak identity keys whose source object has been garbage collected.
+	 */
+	private final ReferenceQueue<Object> queue;
+
+	/**
+	 * Create mapper using weak identity keys.
+	 *
+	 * @param delegate Mapper used to map source objects that are not in cache.
+	 * @param maximumSize Maximum number of cached destination objects.
+	 */
+	CachingObjectMapper(ObjectMapper<T, U> delegate, int maximumSize) {
+		this(delegate, maximumSize, null);
+	}
+
+	/**
+	 * Create mapper using keys extracted from source objects.
+	 *
+	 * @param delegate Mapper used to map source objects that are not in cache.
+	 * @param maximumSize Maximum number of cached destination objects.
+	 * @param keyExtractor Function extracting cache key of source object, {@code null} to use weak identity keys.
+	 */
+	CachingObjectMapper(ObjectMapper<T, U> delegate, int maximumSize, Function<? super T, ?> keyExtractor) {
+		this.delegate = notNull(delegate, "Delegate mapper must not be null");
+		this.keyExtractor = keyExtractor;
+		this.cache = new SegmentedLruCache<>(maximumSize);
+		this.queue = new ReferenceQueue<>();
+	}
+
+	@Override
+	public U map(T source) {
+		if (source == null) {
+			return null;
+		}
+
+		Object key = keyExtractor == null ? new IdentityKey(source) : keyExtractor.apply(source);
+		if (key == null) {
+			if (ELEMENTS_TRACE) {
+				elementsLog.trace("  - Null cache key, map without cache: {}", source);
+			}
+
+			return delegate.map(source);
+		}
+
+		U destination = cache.get(key);
+		if (destination != null) {
+			return destination;
+		}
+
+		destination = delegate.map(source);
+		if (destination == null) {
+			return null;
+		}
+
+		if (keyExtractor == null) {
+			expungeStaleKeys();
+			key = new WeakIdentityKey(source, queue);
+		}
+
+		return cache.putIfAbsent(key, destination);
+	}
+
+	@Override
+	public Collection<U> map(Iterable<T> sources) {
+		log.debug("Map source of iterables with cache");
+		final List<U> results = sources instanceof Collection ? new ArrayList<U>(((Collection<T>) sources).size()) : new ArrayList<U>();
+		for (T source : sources) {
+			results.add(map(source));
+		}
+
+		return results;
+	}
+
+	@Override
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		log.debug("Map source values of map object with cache");
+		final Map<K, U> results = new LinkedHashMap<>(sources.size());
+		for (Map.Entry<K, T> entry : sources.entrySet()) {
+			results.put(entry.getKey(), map(entry.getValue()));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Get number of cached destination objects.
+	 *
+	 * @return Cache size.
+	 */
+	public int getCacheSize() {
+		return cache.size();
+	}
+
+	/**
+	 * Get number of source objects found in cache.
+	 *
+	 * @return Number of cache hits.
+	 */
+	public long getHitCount() {
+		return cache.getHitCount();
+	}
+
+	/**
+	 * Get number of source objects not found in cache.
+	 *
+	 * @return Number of cache misses.
+	 */
+	public long getMissCount() {
+		return cache.getMissCount();
+	}
+
+	/**
+	 * Get number of destination objects evicted because cache was full.
+	 *
+	 * @return Number of evictions.
+	 */
+	public long getEvictionCount() {
+		return cache.getEvictionCount();
+	}
+
+	private void expungeStaleKeys() {
+		Object key;
+		while ((key = queue.poll()) != null) {
+			cache.remove(key);
+		}
+	}
+
+	/**
+	 * Key comparing source objects by identity.
+	 */
+	private interface Key {
+		Object get();
+	}
+
+	/**
+	 * Strong identity key, used to look up cache.
+	 */
+	private static final class IdentityKey implements Key {
+		private final Object source;
+		private final int hash;
+
+		private IdentityKey(Object source) {
+			this.source = source;
+			this.hash = System.identityHashCode(source);
+		}
+
+		@Override
+		public Object get() {
+			return source;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o == this || (o instanceof Key && ((Key) o).get() == source);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Weak identity key, stored in cache.
+	 * Once source object has been garbage collected, key is only equal to itself.
+	 */
+	private static final class WeakIdentityKey extends WeakReference<Object> implements Key {
+		private final int hash;
+
+		private WeakIdentityKey(Object source, ReferenceQueue<Object> queue) {
+			super(source, queue);
+			this.hash = System.identityHashCode(source);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			Object source = get();
+			return source != null && o instanceof Key && ((Key) o).get() == source;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
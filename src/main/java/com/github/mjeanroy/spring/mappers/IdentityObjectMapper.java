@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.commons.IdentityCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Object mapper decorator that maps each distinct source object (compared by identity)
+ * only once per collection mapping operation.
+ *
+ * When the same source instance appears several times in an iterable (or as several values
+ * of a map), it is mapped the first time, and the same destination instance is returned for
+ * each next occurrence. Mapped objects are stored in a cache scoped to a single call of
+ * {@link #map(Iterable)} or {@link #map(Map)}: results are always eager collections.
+ *
+ * Single object mapping ({@link #map(Object)}) is delegated without any cache.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+class IdentityObjectMapper<T, U> implements ObjectMapper<T, U> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(IdentityObjectMapper.class);
+
+	/**
+	 * Mapper used to map distinct source objects.
+	 */
+	private final ObjectMapper<T, U> delegate;
+
+	/**
+	 * Create mapper.
+	 *
+	 * @param delegate Mapper used to map distinct source objects.
+	 */
+	IdentityObjectMapper(ObjectMapper<T, U> delegate) {
+		this.delegate = notNull(delegate, "Delegate mapper must not be null");
+	}
+
+	@Override
+	public U map(T source) {
+		return delegate.map(source);
+	}
+
+	@Override
+	public Collection<U> map(Iterable<T> sources) {
+		log.debug("Map source of iterables with identity cache");
+		final int size = sources instanceof Collection ? ((Collection<T>) sources).size() : 0;
+		final List<U> results = size > 0 ? new ArrayList<U>(size) : new ArrayList<U>();
+		final IdentityCache<T, U> cache = new IdentityCache<>(size);
+
+		for (T source : sources) {
+			results.add(map(source, cache));
+		}
+
+		log.trace("  - {} distinct source objects mapped", cache.size());
+		return results;
+	}
+
+	@Override
+	public <K> Map<K, U> map(Map<K, T> sources) {
+		log.debug("Map source values of map object with identity cache");
+		final Map<K, U> results = new LinkedHashMap<>(sources.size());
+		final IdentityCache<T, U> cache = new IdentityCache<>(sources.size());
+
+		for (Map.Entry<K, T> entry : sources.entrySet()) {
+			results.put(entry.getKey(), map(entry.getValue(), cache));
+		}
+
+		log.trace("  - {} distinct source objects mapped", cache.size());
+		return results;
+	}
+
+	private U map(T source, IdentityCache<T, U> cache) {
+		if (source == null) {
+			return null;
+		}
+
+		U destination = cache.get(source);
+		if (destination == null) {
+			destination = delegate.map(source);
+			cache.put(source, destination);
+		}
+
+		return destination;
+	}
+}
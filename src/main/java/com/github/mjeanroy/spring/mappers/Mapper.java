@@ -26,6 +26,8 @@ package com.github.mjeanroy.spring.mappers;
 
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 
+import java.util.List;
+
 /**
  * Mapper interface.
  * This interface define simple contract that needs to be
@@ -57,6 +59,26 @@ public interface Mapper {
 	 */
 	<T, U> void map(T source, U destination);
 
+	/**
+	 * Map list of beans to new beans, in the same order.
+	 * Target beans will be automatically created and appended to given
+	 * destination list: a {@code null} source is mapped to {@code null}.
+	 *
+	 * Default implementation maps each bean with {@link #map(Object, ObjectFactory)}, implementation
+	 * may resolve mapping strategy once for the whole batch instead of once per bean.
+	 *
+	 * @param sources      Source beans.
+	 * @param factory      Factory used to build target beans.
+	 * @param destinations List where mapped beans are added.
+	 * @param <T>          Source type.
+	 * @param <U>          Target type.
+	 */
+	default <T, U> void mapAll(List<T> sources, ObjectFactory<U, T> factory, List<U> destinations) {
+		for (T source : sources) {
+			destinations.add(source == null ? null : map(source, factory));
+		}
+	}
+
 	/**
 	 * Get object that is internally used to execute
 	 * bean transformation.
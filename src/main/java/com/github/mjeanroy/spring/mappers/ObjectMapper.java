@@ -25,6 +25,7 @@
 package com.github.mjeanroy.spring.mappers;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Mapper that can transform object of type T to objects of
@@ -64,4 +65,17 @@ public interface ObjectMapper<T, U> {
 	 * @return Destination objects.
 	 */
 	<K> Map<K, U> map(Map<K, T> sources);
+
+	/**
+	 * Transform stream of type T to new stream of type U.
+	 * Elements are mapped lazily, when resulting stream is consumed: short-circuiting
+	 * operations do not map remaining elements, and parallel streams map elements in parallel
+	 * (mapper must be thread safe in this case).
+	 *
+	 * @param sources Source objects.
+	 * @return Destination objects.
+	 */
+	default Stream<U> mapStream(Stream<T> sources) {
+		return sources.map(this::map);
+	}
 }
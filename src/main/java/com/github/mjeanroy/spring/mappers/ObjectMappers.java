@@ -26,6 +26,13 @@ package com.github.mjeanroy.spring.mappers;
 
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static com.github.mjeanroy.spring.mappers.AbstractParallelObjectMapper.DEFAULT_PARALLELISM_THRESHOLD;
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
 /**
  * Static factories to object mappers.
  */
@@ -66,13 +73,14 @@ public final class ObjectMappers {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T, U> ObjectMapper<T, U> inMemoryObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
-		return new InMemoryObjectMapper(mapper, klassU, factory);
+		return new InMemoryObjectMapper(mapper, klassT, klassU, factory);
 	}
 
 	/**
 	 * Create new mapper.
-	 * Iterable collection will be an a lazy data structure (i.e an instance of Iterable but not
-	 * an instance of Collection).
+	 * Iterable collection will be a lazy data structure: a lazy unmodifiable {@link java.util.List} if
+	 * source objects are in a random access list (elements are mapped when they are read), and a lazy
+	 * Iterable (i.e an instance of Iterable but not an instance of Collection) otherwise.
 	 *
 	 * @param mapper Internal mapper.
 	 * @param klassT Class of objects to map map.
@@ -89,8 +97,9 @@ public final class ObjectMappers {
 	/**
 	 * Create new mapper.
 	 * Destination objects will be created using custom factory.
-	 * Iterable collection will be an a lazy data structure (i.e an instance of Iterable but not
-	 * an instance of Collection).
+	 * Iterable collection will be a lazy data structure: a lazy unmodifiable {@link java.util.List} if
+	 * source objects are in a random access list (elements are mapped when they are read), and a lazy
+	 * Iterable (i.e an instance of Iterable but not an instance of Collection) otherwise.
 	 *
 	 * @param mapper Internal mapper.
 	 * @param klassT Class of objects to map map.
@@ -102,7 +111,197 @@ public final class ObjectMappers {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T, U> ObjectMapper<T, U> lazyObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
-		return new LazyObjectMapper(mapper, klassU, factory);
+		return new LazyObjectMapper(mapper, klassT, klassU, factory);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Iterable collection will be a list where each element is mapped on first access, and
+	 * mapped at most once.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ObjectMapper<T, U> memoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
+		return new MemoizedObjectMapper(mapper, klassT, klassU);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Destination objects will be created using custom factory.
+	 * Iterable collection will be a list where each element is mapped on first access, and
+	 * mapped at most once.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param factory Custom factory for destination objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ObjectMapper<T, U> memoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		return new MemoizedObjectMapper(mapper, klassT, klassU, factory);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Iterable collection will be an in memory data structure (i.e an instance of Collection): large
+	 * random access lists will be mapped in parallel using the common fork join pool.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> ObjectMapper<T, U> parallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
+		return parallelObjectMapper(mapper, klassT, klassU, ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Destination objects will be created using custom factory.
+	 * Iterable collection will be an in memory data structure (i.e an instance of Collection): large
+	 * random access lists will be mapped in parallel using the common fork join pool.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param factory Custom factory for destination objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> ObjectMapper<T, U> parallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+		return parallelObjectMapper(mapper, klassT, klassU, factory, ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Iterable collection will be an in memory data structure (i.e an instance of Collection): random
+	 * access lists with at least {@code threshold} elements will be mapped in parallel using given pool.
+	 * Values of maps with at least {@code threshold} entries are mapped in parallel too.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param pool Pool used to map elements in parallel.
+	 * @param threshold Minimum size of lists and maps mapped in parallel.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ObjectMapper<T, U> parallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ForkJoinPool pool, int threshold) {
+		return new ParallelObjectMapper(mapper, klassT, klassU, pool, threshold);
+	}
+
+	/**
+	 * Create new mapper.
+	 * Destination objects will be created using custom factory.
+	 * Iterable collection will be an in memory data structure (i.e an instance of Collection): random
+	 * access lists with at least {@code threshold} elements will be mapped in parallel using given pool.
+	 * Values of maps with at least {@code threshold} entries are mapped in parallel too.
+	 *
+	 * @param mapper Internal mapper.
+	 * @param klassT Class of objects to map map.
+	 * @param klassU Class of objects to map to.
+	 * @param factory Custom factory for destination objects.
+	 * @param pool Pool used to map elements in parallel.
+	 * @param threshold Minimum size of lists and maps mapped in parallel.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ObjectMapper<T, U> parallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory, ForkJoinPool pool, int threshold) {
+		return new ParallelObjectMapper(mapper, klassT, klassU, factory, pool, threshold);
+	}
+
+	/**
+	 * Create new mapper that maps each distinct source object (compared by identity) only once
+	 * per collection mapping operation: when the same source instance appears several times in
+	 * an iterable or a map, the same destination instance is returned for each occurrence.
+	 *
+	 * Iterable collection will be an in memory data structure (i.e an instance of Collection).
+	 *
+	 * @param mapper Mapper used to map distinct source objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> ObjectMapper<T, U> identityObjectMapper(ObjectMapper<T, U> mapper) {
+		return new IdentityObjectMapper<>(mapper);
+	}
+
+	/**
+	 * Create new mapper that caches destination objects across mapping operations: source objects
+	 * are compared by identity, and weakly referenced by the cache.
+	 *
+	 * Since the same destination instance is returned for the same source instance, destination
+	 * objects must not be modified by callers.
+	 *
+	 * @param mapper Mapper used to map source objects that are not in cache.
+	 * @param maximumSize Maximum number of cached destination objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> CachingObjectMapper<T, U> cachingObjectMapper(ObjectMapper<T, U> mapper, int maximumSize) {
+		return new CachingObjectMapper<>(mapper, maximumSize);
+	}
+
+	/**
+	 * Create new mapper that caches destination objects across mapping operations: cache keys
+	 * are extracted from source objects with given function (a {@code null} key disables cache
+	 * for this source object).
+	 *
+	 * Since the same destination instance is returned for the same key, destination
+	 * objects must not be modified by callers.
+	 *
+	 * @param mapper Mapper used to map source objects that are not in cache.
+	 * @param maximumSize Maximum number of cached destination objects.
+	 * @param keyExtractor Function extracting cache key of source objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> CachingObjectMapper<T, U> cachingObjectMapper(ObjectMapper<T, U> mapper, int maximumSize, Function<? super T, ?> keyExtractor) {
+		return new CachingObjectMapper<>(mapper, maximumSize, notNull(keyExtractor, "Key extractor must not be null"));
+	}
+
+	/**
+	 * Create new mapper that can map source objects asynchronously, using default executor
+	 * (see {@link AsyncObjectMapper#defaultExecutor()}).
+	 *
+	 * @param mapper Mapper used to map source objects.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> AsyncObjectMapper<T, U> asyncObjectMapper(ObjectMapper<T, U> mapper) {
+		return new AsyncObjectMapper<>(mapper, AsyncObjectMapper.defaultExecutor());
+	}
+
+	/**
+	 * Create new mapper that can map source objects asynchronously, using given executor.
+	 *
+	 * @param mapper Mapper used to map source objects.
+	 * @param executor Executor used to run mapping tasks.
+	 * @param <T> Type of objects to map map.
+	 * @param <U> Type of objects to map to.
+	 * @return Mapper.
+	 */
+	public static <T, U> AsyncObjectMapper<T, U> asyncObjectMapper(ObjectMapper<T, U> mapper, Executor executor) {
+		return new AsyncObjectMapper<>(mapper, executor);
 	}
 
 	private static class InMemoryObjectMapper<T, U> extends AbstractInMemoryObjectMapper<T, U> implements ObjectMapper<T, U> {
@@ -110,8 +309,8 @@ public final class ObjectMappers {
 			super(mapper, klassT, klassU);
 		}
 
-		private InMemoryObjectMapper(Mapper mapper, Class<U> klassU, ObjectFactory<U, T> factory) {
-			super(mapper, klassU, factory);
+		private InMemoryObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+			super(mapper, klassT, klassU, factory);
 		}
 	}
 
@@ -120,8 +319,45 @@ public final class ObjectMappers {
 			super(mapper, klassT, klassU);
 		}
 
-		private LazyObjectMapper(Mapper mapper, Class<U> klassU, ObjectFactory<U, T> factory) {
-			super(mapper, klassU, factory);
+		private LazyObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+			super(mapper, klassT, klassU, factory);
+		}
+	}
+
+	private static class MemoizedObjectMapper<T, U> extends AbstractMemoizedObjectMapper<T, U> implements ObjectMapper<T, U> {
+		private MemoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU) {
+			super(mapper, klassT, klassU);
+		}
+
+		private MemoizedObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory) {
+			super(mapper, klassT, klassU, factory);
+		}
+	}
+
+	private static class ParallelObjectMapper<T, U> extends AbstractParallelObjectMapper<T, U> implements ObjectMapper<T, U> {
+		private final ForkJoinPool pool;
+		private final int threshold;
+
+		private ParallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ForkJoinPool pool, int threshold) {
+			super(mapper, klassT, klassU);
+			this.pool = notNull(pool, "Fork join pool must not be null");
+			this.threshold = threshold;
+		}
+
+		private ParallelObjectMapper(Mapper mapper, Class<T> klassT, Class<U> klassU, ObjectFactory<U, T> factory, ForkJoinPool pool, int threshold) {
+			super(mapper, klassT, klassU, factory);
+			this.pool = notNull(pool, "Fork join pool must not be null");
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected ForkJoinPool getForkJoinPool() {
+			return pool;
+		}
+
+		@Override
+		protected int getParallelismThreshold() {
+			return threshold;
 		}
 	}
 }
@@ -66,6 +66,20 @@ public final class ClassUtils {
 	@SuppressWarnings("unchecked")
 	public static <T> T getAnnotationValue(AnnotationMetadata importingClassMetadata, Class annotationClass, String name, T defaultValue) {
 		Map<String, Object> attributes = importingClassMetadata.getAnnotationAttributes(annotationClass.getName());
+		return getAnnotationValue(attributes, name, defaultValue);
+	}
+
+	/**
+	 * Get annotation method value from annotation attributes.
+	 *
+	 * @param attributes   Annotation attributes.
+	 * @param name         Name of method.
+	 * @param defaultValue Default value if original value is null.
+	 * @param <T>          Type of returned value.
+	 * @return Annotation value, or default value if original value is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T getAnnotationValue(Map<String, Object> attributes, String name, T defaultValue) {
 		T value = (T) attributes.get(name);
 		if (value == null) {
 			value = defaultValue;
@@ -0,0 +1,200 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+/**
+ * Map implementation using identity (instead of equality) to compare keys, with
+ * open addressing: keys and values are stored in a single array, and collisions
+ * are resolved with linear probing. Contrary to {@link java.util.HashMap}, there is no entry
+ * object allocated per key.
+ *
+ * This cache does not support {@code null} keys, and entries cannot be removed: it
+ * is designed to be used during a single mapping operation, and then discarded.
+ *
+ * This implementation is not thread safe.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ */
+public final class IdentityCache<K, V> {
+
+	/**
+	 * Minimum number of slots, must be a power of two.
+	 */
+	private static final int MIN_CAPACITY = 16;
+
+	/**
+	 * Table is resized when it is filled at 2/3.
+	 */
+	private static final int LOAD_FACTOR_NUMERATOR = 2;
+	private static final int LOAD_FACTOR_DENOMINATOR = 3;
+
+	/**
+	 * Keys (at even indexes) and values (at odd indexes).
+	 */
+	private Object[] table;
+
+	/**
+	 * Number of entries.
+	 */
+	private int size;
+
+	/**
+	 * Number of entries that triggers a resize.
+	 */
+	private int threshold;
+
+	/**
+	 * Create cache.
+	 *
+	 * @param expectedSize Expected number of entries, used to size internal table.
+	 */
+	public IdentityCache(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity * LOAD_FACTOR_NUMERATOR / LOAD_FACTOR_DENOMINATOR < expectedSize && capacity < (1 << 29)) {
+			capacity <<= 1;
+		}
+
+		init(capacity);
+	}
+
+	/**
+	 * Create cache with a default size.
+	 */
+	public IdentityCache() {
+		this(0);
+	}
+
+	/**
+	 * Get value associated to given key.
+	 *
+	 * @param key Key.
+	 * @return Value, {@code null} if key is not in cache.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		PreConditions.notNull(key, "Key must not be null");
+
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int i = index(key, mask);
+		while (true) {
+			Object current = tab[i];
+			if (current == key) {
+				return (V) tab[i + 1];
+			}
+			if (current == null) {
+				return null;
+			}
+			i = (i + 2) & mask;
+		}
+	}
+
+	/**
+	 * Associate value to given key, previous value (if any) is replaced.
+	 *
+	 * @param key Key.
+	 * @param value Value.
+	 */
+	public void put(K key, V value) {
+		PreConditions.notNull(key, "Key must not be null");
+
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int i = index(key, mask);
+		while (true) {
+			Object current = tab[i];
+			if (current == key) {
+				tab[i + 1] = value;
+				return;
+			}
+			if (current == null) {
+				tab[i] = key;
+				tab[i + 1] = value;
+				if (++size > threshold) {
+					resize();
+				}
+				return;
+			}
+			i = (i + 2) & mask;
+		}
+	}
+
+	/**
+	 * Get number of entries.
+	 *
+	 * @return Number of entries.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Check if cache is empty.
+	 *
+	 * @return {@code true} if cache does not contain any entry, {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void init(int capacity) {
+		this.table = new Object[capacity * 2];
+		this.threshold = capacity * LOAD_FACTOR_NUMERATOR / LOAD_FACTOR_DENOMINATOR;
+	}
+
+	private void resize() {
+		final Object[] old = table;
+		init(old.length);
+
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		for (int j = 0; j < old.length; j += 2) {
+			Object key = old[j];
+			if (key != null) {
+				int i = index(key, mask);
+				while (tab[i] != null) {
+					i = (i + 2) & mask;
+				}
+
+				tab[i] = key;
+				tab[i + 1] = old[j + 1];
+			}
+		}
+	}
+
+	/**
+	 * Compute index of key in table (always an even index).
+	 * Identity hash code is mixed, since it is often poorly distributed on low bits.
+	 *
+	 * @param key Key.
+	 * @param mask Table mask (table length - 1).
+	 * @return Index.
+	 */
+	private static int index(Object key, int mask) {
+		int h = System.identityHashCode(key) * 0x9E3779B9;
+		return ((h ^ (h >>> 16)) << 1) & mask;
+	}
+}
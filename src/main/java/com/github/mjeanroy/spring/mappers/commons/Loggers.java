@@ -0,0 +1,61 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Static logger utilities.
+ */
+public final class Loggers {
+
+	/**
+	 * Prefix of loggers of per element operations.
+	 *
+	 * This prefix is not part of the package hierarchy of this library: enabling debug or trace
+	 * level for the library package does not enable these loggers, they must be explicitly
+	 * enabled (at trace level).
+	 */
+	public static final String ELEMENTS = "spring.mappers.elements";
+
+	// Ensure non instantiation
+	private Loggers() {
+	}
+
+	/**
+	 * Get logger of per element operations of given class (for example, the mapping
+	 * of each element of an iterable).
+	 *
+	 * Classes using this logger check its level once, at class initialization: level must be
+	 * configured before first use of the library, changing it at runtime has no effect.
+	 *
+	 * @param klass Class.
+	 * @return Logger.
+	 */
+	public static Logger elementsLogger(Class<?> klass) {
+		return LoggerFactory.getLogger(ELEMENTS + "." + klass.getSimpleName());
+	}
+}
@@ -0,0 +1,361 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Bounded cache using a segmented LRU eviction policy.
+ *
+ * Each segment has two areas:
+ * <ul>
+ *   <li>A probation area, where new entries are added.</li>
+ *   <li>A protected area, where entries are moved when they are read while in probation area.</li>
+ * </ul>
+ *
+ * When protected area is full, its least recently used entry goes back to probation area, and when
+ * the segment is full, the oldest entry of probation area is evicted: entries that are read only once
+ * (a scan, for example) are evicted before entries that are read frequently.
+ *
+ * Entries are spread over several segments (using key hash code), each segment having its own lock, so
+ * that concurrent writes on different segments do not contend. Reads never wait for a lock: they are
+ * recorded in a buffer, and applied to LRU order later (see {@link Segment}).
+ *
+ * This cache does not support {@code null} keys or values.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ */
+public final class SegmentedLruCache<K, V> {
+
+	/**
+	 * Maximum number of segments.
+	 */
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * Minimum number of entries per segment, before adding a new segment.
+	 */
+	private static final int MIN_SEGMENT_SIZE = 32;
+
+	/**
+	 * Percentage of segment capacity used by protected area.
+	 */
+	private static final int PROTECTED_PERCENT = 80;
+
+	/**
+	 * Number of reads recorded by each segment before being applied to LRU order, a power of two.
+	 */
+	private static final int READ_BUFFER_SIZE = 32;
+
+	/**
+	 * Cache segments, the number of segments is a power of two.
+	 */
+	private final Segment<K, V>[] segments;
+
+	/**
+	 * Number of successful lookups.
+	 */
+	private final LongAdder hits;
+
+	/**
+	 * Number of failed lookups.
+	 */
+	private final LongAdder misses;
+
+	/**
+	 * Number of evicted entries.
+	 */
+	private final LongAdder evictions;
+
+	/**
+	 * Create cache.
+	 *
+	 * @param maximumSize Maximum number of entries.
+	 */
+	@SuppressWarnings("unchecked")
+	public SegmentedLruCache(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive");
+		}
+
+		int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			// Spread remainder over first segments, so that total capacity is exactly maximum size.
+			segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+		}
+
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+	}
+
+	/**
+	 * Get value associated to given key.
+	 *
+	 * @param key Key.
+	 * @return Value, {@code null} if key is not in cache.
+	 */
+	public V get(K key) {
+		V value = segment(key).get(key);
+		if (value == null) {
+			misses.increment();
+		}
+		else {
+			hits.increment();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Associate value to given key, if key is not already in cache.
+	 *
+	 * @param key Key.
+	 * @param value Value.
+	 * @return Value in cache: the previous value if key was already in cache, given value otherwise.
+	 */
+	public V putIfAbsent(K key, V value) {
+		notNull(value, "Value must not be null");
+		return segment(key).putIfAbsent(key, value, evictions);
+	}
+
+	/**
+	 * Remove given key from cache.
+	 *
+	 * @param key Key.
+	 */
+	public void remove(K key) {
+		segment(key).remove(key);
+	}
+
+	/**
+	 * Get number of entries.
+	 *
+	 * @return Number of entries.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Get number of lookups that found a value.
+	 *
+	 * @return Number of hits.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Get number of lookups that did not find any value.
+	 *
+	 * @return Number of misses.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Get number of entries evicted because cache was full.
+	 *
+	 * @return Number of evictions.
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	private Segment<K, V> segment(K key) {
+		notNull(key, "Key must not be null");
+		int h = key.hashCode() * 0x9E3779B9;
+		return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+	}
+
+	/**
+	 * Cache segment.
+	 *
+	 * Lookups are lock free: entries are read from a concurrent map, and each read is recorded in a
+	 * small buffer. Recorded reads are applied to LRU areas under segment lock, when the buffer is
+	 * full or before each write, so that readers never wait for the lock. Buffer is lossy: under heavy
+	 * contention, a read may not be applied to LRU order (the eviction policy is then approximate).
+	 *
+	 * @param <K> Type of keys.
+	 * @param <V> Type of values.
+	 */
+	private static final class Segment<K, V> {
+		private final int maximumSize;
+		private final int protectedSize;
+		private final ConcurrentHashMap<K, Node<K, V>> data;
+		private final LinkedHashMap<K, Node<K, V>> probation;
+		private final LinkedHashMap<K, Node<K, V>> protectedArea;
+		private final AtomicReferenceArray<Node<K, V>> readBuffer;
+		private final ReentrantLock lock;
+
+		private Segment(int maximumSize) {
+			this.maximumSize = maximumSize;
+			this.protectedSize = maximumSize * PROTECTED_PERCENT / 100;
+			this.data = new ConcurrentHashMap<>();
+			this.probation = new LinkedHashMap<>(16, 0.75f, false);
+			this.protectedArea = new LinkedHashMap<>(16, 0.75f, true);
+			this.readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+			this.lock = new ReentrantLock();
+		}
+
+		private V get(K key) {
+			Node<K, V> node = data.get(key);
+			if (node == null) {
+				return null;
+			}
+
+			// Record read in a random slot: if slot was not empty, buffer is filling up, so try to apply
+			// recorded reads (including the one that has been replaced) without waiting for the lock.
+			int slot = ThreadLocalRandom.current().nextInt() & (READ_BUFFER_SIZE - 1);
+			Node<K, V> replaced = readBuffer.getAndSet(slot, node);
+			if (replaced != null && lock.tryLock()) {
+				try {
+					onRead(replaced);
+					drainReadBuffer();
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+
+			return node.value;
+		}
+
+		private V putIfAbsent(K key, V value, LongAdder evictions) {
+			lock.lock();
+			try {
+				drainReadBuffer();
+
+				Node<K, V> current = data.get(key);
+				if (current != null) {
+					return current.value;
+				}
+
+				Node<K, V> node = new Node<>(key, value);
+				probation.put(key, node);
+				data.put(key, node);
+				if (data.size() > maximumSize) {
+					LinkedHashMap<K, Node<K, V>> victims = probation.isEmpty() ? protectedArea : probation;
+					Iterator<K> it = victims.keySet().iterator();
+					K victim = it.next();
+					it.remove();
+					data.remove(victim);
+					evictions.increment();
+				}
+
+				return value;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(K key) {
+			lock.lock();
+			try {
+				drainReadBuffer();
+				if (data.remove(key) != null && protectedArea.remove(key) == null) {
+					probation.remove(key);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int size() {
+			return data.size();
+		}
+
+		/**
+		 * Apply reads recorded in read buffer, must be called with segment lock.
+		 */
+		private void drainReadBuffer() {
+			for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+				Node<K, V> node = readBuffer.getAndSet(i, null);
+				if (node != null) {
+					onRead(node);
+				}
+			}
+		}
+
+		/**
+		 * Update LRU areas after a read of given entry, must be called with segment lock.
+		 * Entries that have been removed since they were read are ignored.
+		 *
+		 * @param node Entry.
+		 */
+		private void onRead(Node<K, V> node) {
+			K key = node.key;
+
+			// Access ordered map: moves entry to the most recently used position.
+			if (protectedArea.get(key) == node || protectedSize == 0 || probation.get(key) != node) {
+				return;
+			}
+
+			probation.remove(key);
+			protectedArea.put(key, node);
+			if (protectedArea.size() > protectedSize) {
+				Iterator<Map.Entry<K, Node<K, V>>> it = protectedArea.entrySet().iterator();
+				Map.Entry<K, Node<K, V>> eldest = it.next();
+				it.remove();
+				probation.put(eldest.getKey(), eldest.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Cache entry.
+	 *
+	 * @param <K> Type of keys.
+	 * @param <V> Type of values.
+	 */
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Pair of classes: class of source objects and class of destination objects.
+ *
+ * This object is immutable and can be used as a key to cache
+ * data that depends on both source and destination types.
+ */
+public final class TypePair {
+
+	/**
+	 * Create new pair.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Type pair.
+	 * @throws NullPointerException If {@code source} or {@code destination} is {@code null}.
+	 */
+	public static TypePair of(Class<?> source, Class<?> destination) {
+		return new TypePair(source, destination);
+	}
+
+	/**
+	 * Class of source objects.
+	 */
+	private final Class<?> source;
+
+	/**
+	 * Class of destination objects.
+	 */
+	private final Class<?> destination;
+
+	private TypePair(Class<?> source, Class<?> destination) {
+		this.source = notNull(source, "Source class must not be null");
+		this.destination = notNull(destination, "Destination class must not be null");
+	}
+
+	/**
+	 * Get source class.
+	 *
+	 * @return Source class.
+	 */
+	public Class<?> getSource() {
+		return source;
+	}
+
+	/**
+	 * Get destination class.
+	 *
+	 * @return Destination class.
+	 */
+	public Class<?> getDestination() {
+		return destination;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof TypePair) {
+			TypePair p = (TypePair) o;
+			return source == p.source && destination == p.destination;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * source.hashCode() + destination.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return source.getName() + " -> " + destination.getName();
+	}
+}
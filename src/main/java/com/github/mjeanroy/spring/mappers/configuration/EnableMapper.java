@@ -44,4 +44,33 @@ public @interface EnableMapper {
 	 * @return Mapper provider.
 	 */
 	MapperProvider provider() default MapperProvider.AUTO;
+
+	/**
+	 * Specify if object mappers should be warmed up once application context
+	 * has been refreshed: a new source object is mapped with each {@link com.github.mjeanroy.spring.mappers.AbstractObjectMapper}
+	 * bean, so that internal structures of mapper implementation are built before first "real" call.
+	 *
+	 * @return Warm up flag.
+	 */
+	boolean warmUp() default false;
+
+	/**
+	 * Specify name of {@link java.util.concurrent.Executor} bean used to run warm up.
+	 * Default (empty name) is to run warm up in the thread refreshing application context.
+	 *
+	 * @return Executor bean name.
+	 */
+	String warmUpExecutor() default "";
+
+	/**
+	 * Specify if mapping metrics should be recorded: each {@link com.github.mjeanroy.spring.mappers.Mapper} bean
+	 * is decorated to record number of mapped objects, mapping time and latency histogram of each pair
+	 * of source and destination classes (see {@link com.github.mjeanroy.spring.mappers.metrics.MappingMetricsRegistry}).
+	 *
+	 * If Micrometer is available on classpath, a {@link com.github.mjeanroy.spring.mappers.metrics.MappingMetricsBinder}
+	 * bean is also declared to publish these metrics.
+	 *
+	 * @return Metrics flag.
+	 */
+	boolean metrics() default false;
 }
@@ -24,9 +24,14 @@
 
 package com.github.mjeanroy.spring.mappers.configuration;
 
+import com.github.mjeanroy.spring.mappers.commons.ClassUtils;
 import org.springframework.context.annotation.ImportSelector;
 import org.springframework.core.type.AnnotationMetadata;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static com.github.mjeanroy.spring.mappers.commons.ClassUtils.getAnnotationValue;
 
 /**
@@ -34,12 +39,33 @@ import static com.github.mjeanroy.spring.mappers.commons.ClassUtils.getAnnotatio
  */
 public class MapperConfigurationSelector implements ImportSelector {
 
+	/**
+	 * Class used to detect Micrometer.
+	 */
+	private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
 	@Override
 	public String[] selectImports(AnnotationMetadata importingClassMetadata) {
-		MapperProvider provider = getAnnotationValue(importingClassMetadata, EnableMapper.class, "provider", MapperProvider.AUTO);
+		Map<String, Object> attributes = importingClassMetadata.getAnnotationAttributes(EnableMapper.class.getName());
+		MapperProvider provider = getAnnotationValue(attributes, "provider", MapperProvider.AUTO);
 		Class klass = provider.configurationClass();
-		return new String[]{
-				klass.getName()
-		};
+
+		List<String> imports = new ArrayList<>(4);
+		imports.add(klass.getName());
+
+		boolean warmUp = getAnnotationValue(attributes, "warmUp", false);
+		if (warmUp) {
+			imports.add(MapperWarmUpConfiguration.class.getName());
+		}
+
+		boolean metrics = getAnnotationValue(attributes, "metrics", false);
+		if (metrics) {
+			imports.add(MapperMetricsConfiguration.class.getName());
+			if (ClassUtils.isPresent(MICROMETER_CLASS)) {
+				imports.add(MapperMicrometerConfiguration.class.getName());
+			}
+		}
+
+		return imports.toArray(new String[imports.size()]);
 	}
 }
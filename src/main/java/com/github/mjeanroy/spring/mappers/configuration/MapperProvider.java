@@ -26,6 +26,7 @@ package com.github.mjeanroy.spring.mappers.configuration;
 
 import com.github.mjeanroy.spring.mappers.commons.ClassUtils;
 import com.github.mjeanroy.spring.mappers.configuration.dozer.DozerConfiguration;
+import com.github.mjeanroy.spring.mappers.configuration.generated.GeneratedMapperConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.modelmapper.ModelMapperConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.orika.OrikaConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.spring.SpringMapperConfiguration;
@@ -84,6 +85,18 @@ public enum MapperProvider {
 		}
 	},
 
+	/**
+	 * Mapper using generated bytecode: a copier class is generated for each pair of
+	 * source and destination classes.
+	 * This does not depend on other external dependency (except spring framework).
+	 */
+	GENERATED {
+		@Override
+		public Class configurationClass() {
+			return GeneratedMapperConfiguration.class;
+		}
+	},
+
 	/**
 	 * This provider will look for best provider implementation available on classpath.
 	 * It checks providers in following order:
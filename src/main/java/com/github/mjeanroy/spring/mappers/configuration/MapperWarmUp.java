@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration;
+
+import com.github.mjeanroy.spring.mappers.AbstractObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Warm up object mappers once application context has been refreshed.
+ *
+ * Each {@link AbstractObjectMapper} bean is used to map a new instance of its source class (created
+ * with its default constructor): this forces mapper implementation to build its internal structures
+ * (class maps, type maps, generated code, etc.) before the first "real" mapping operation.
+ *
+ * Each mapper is warmed up in its own task, submitted to the configured executor (or executed in the
+ * thread refreshing application context if no executor is configured). Time spent for each mapper is
+ * logged and available with {@link #getDurations()}.
+ */
+public class MapperWarmUp implements ApplicationListener<ContextRefreshedEvent> {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(MapperWarmUp.class);
+
+	/**
+	 * Name of executor bean, may be empty.
+	 */
+	private final String executorName;
+
+	/**
+	 * Time spent (in nanoseconds) to warm up each mapper, indexed by bean name.
+	 */
+	private final Map<String, Long> durations;
+
+	/**
+	 * Flag to ensure warm up is executed only once (context may be refreshed several times).
+	 */
+	private final AtomicBoolean done;
+
+	/**
+	 * Create warm up listener.
+	 *
+	 * @param executorName Name of executor bean, empty or {@code null} to run warm up in caller thread.
+	 */
+	public MapperWarmUp(String executorName) {
+		this.executorName = executorName;
+		this.durations = new ConcurrentHashMap<>();
+		this.done = new AtomicBoolean(false);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (!done.compareAndSet(false, true)) {
+			return;
+		}
+
+		ApplicationContext ctx = event.getApplicationContext();
+		Executor executor = executor(ctx);
+
+		Map<String, AbstractObjectMapper> mappers = ctx.getBeansOfType(AbstractObjectMapper.class);
+		log.info("Warm up {} object mappers", mappers.size());
+
+		for (Map.Entry<String, AbstractObjectMapper> entry : mappers.entrySet()) {
+			String name = entry.getKey();
+			AbstractObjectMapper mapper = entry.getValue();
+			executor.execute(() -> warmUp(name, mapper));
+		}
+	}
+
+	/**
+	 * Get time spent (in nanoseconds) to warm up each mapper, indexed by bean name.
+	 * Mappers that could not be warmed up (or whose warm up is not finished yet) are
+	 * not part of the result.
+	 *
+	 * @return Warm up durations.
+	 */
+	public Map<String, Long> getDurations() {
+		return Collections.unmodifiableMap(durations);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void warmUp(String name, AbstractObjectMapper mapper) {
+		Class<?> klass = mapper.getSourceClass();
+		try {
+			long start = System.nanoTime();
+			mapper.map(BeanUtils.instantiateClass(klass));
+			long duration = System.nanoTime() - start;
+
+			durations.put(name, duration);
+			log.info("Mapper '{}' warmed up in {} ms", name, TimeUnit.NANOSECONDS.toMillis(duration));
+		}
+		catch (RuntimeException ex) {
+			log.warn("Unable to warm up mapper '{}' with a new instance of {}: {}", name, klass, ex.getMessage());
+			log.debug(ex.getMessage(), ex);
+		}
+	}
+
+	private Executor executor(ApplicationContext ctx) {
+		if (executorName == null || executorName.isEmpty()) {
+			return Runnable::run;
+		}
+
+		return ctx.getBean(executorName, Executor.class);
+	}
+}
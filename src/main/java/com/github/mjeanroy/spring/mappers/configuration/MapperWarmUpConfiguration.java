@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.type.AnnotationMetadata;
+
+import static com.github.mjeanroy.spring.mappers.commons.ClassUtils.getAnnotationValue;
+
+/**
+ * Configuration imported when warm up is enabled with {@link EnableMapper#warmUp()}.
+ */
+@Configuration
+class MapperWarmUpConfiguration implements ImportAware {
+
+	private static final Logger log = LoggerFactory.getLogger(MapperWarmUpConfiguration.class);
+
+	private String executorName;
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+		executorName = getAnnotationValue(importMetadata, EnableMapper.class, "warmUpExecutor", "");
+	}
+
+	@Bean
+	public MapperWarmUp mapperWarmUp() {
+		log.info("Create mapper warm up bean");
+		return new MapperWarmUp(executorName);
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.metrics.MappingMetricsRegistry;
+import com.github.mjeanroy.spring.mappers.metrics.MetricsMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.lang.reflect.Method;
+
+/**
+ * Decorate each {@link Mapper} bean with a {@link MetricsMapper}.
+ *
+ * Only beans created by a factory method declaring {@link Mapper} as return type are decorated:
+ * beans exposed with their concrete type (for example, a {@code DozerMapper} bean) are not decorated,
+ * so that they can still be injected with this type.
+ */
+class MetricsMapperPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+	private static final Logger log = LoggerFactory.getLogger(MetricsMapperPostProcessor.class);
+
+	/**
+	 * Registry of mapping timers.
+	 */
+	private final MappingMetricsRegistry registry;
+
+	/**
+	 * Bean factory, used to get declared type of mapper beans.
+	 */
+	private ConfigurableListableBeanFactory beanFactory;
+
+	MetricsMapperPostProcessor(MappingMetricsRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+		}
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (bean instanceof Mapper && !(bean instanceof MetricsMapper)) {
+			if (isExposedAsMapper(beanName)) {
+				log.debug("Record metrics of mapper: {}", beanName);
+				return new MetricsMapper((Mapper) bean, registry);
+			}
+
+			log.debug("Mapper '{}' is not exposed as Mapper interface, metrics are not recorded", beanName);
+		}
+
+		return bean;
+	}
+
+	private boolean isExposedAsMapper(String beanName) {
+		if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+			return false;
+		}
+
+		BeanDefinition definition = beanFactory.getMergedBeanDefinition(beanName);
+		if (definition instanceof RootBeanDefinition) {
+			Method factoryMethod = ((RootBeanDefinition) definition).getResolvedFactoryMethod();
+			return factoryMethod != null && factoryMethod.getReturnType() == Mapper.class;
+		}
+
+		return false;
+	}
+}
@@ -29,6 +29,7 @@ import com.github.mjeanroy.spring.mappers.impl.dozer.DozerMapper;
 import org.dozer.DozerBeanMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -42,8 +43,22 @@ public class DozerConfiguration {
 	private static final Logger log = LoggerFactory.getLogger(DozerConfiguration.class);
 
 	@Bean
-	public Mapper mapper(DozerBeanMapper dozerBeanMapper) {
+	public Mapper mapper(DozerBeanMapper dozerBeanMapper, ObjectProvider<DozerSettings> dozerSettings) {
 		log.info("Create dozer mapper implementation bean");
-		return new DozerMapper(dozerBeanMapper);
+		DozerMapper mapper = new DozerMapper(dozerBeanMapper);
+
+		// Initialize dozer now, instead of during first mapping.
+		DozerSettings settings = dozerSettings.getIfAvailable();
+		if (settings == null || settings.isEmpty()) {
+			log.debug("No dozer settings, dozer mapper will be initialized during first mapping");
+		}
+		else if (mapper.isInitialized()) {
+			log.warn("Dozer bean mapper is already initialized, dozer settings are ignored");
+		}
+		else {
+			mapper.initialize(settings.getMappingFiles(), settings.getTypePairs());
+		}
+
+		return mapper;
 	}
 }
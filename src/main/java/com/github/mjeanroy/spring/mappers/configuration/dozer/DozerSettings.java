@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration.dozer;
+
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Settings of Dozer mapper: mapping files and pairs of classes loaded
+ * when Dozer mapper is created (see {@link com.github.mjeanroy.spring.mappers.impl.dozer.DozerMapper#initialize}).
+ *
+ * Declare a bean of this type to use it with {@link DozerConfiguration}:
+ *
+ * <pre><code>
+ *   &#64;Bean
+ *   public DozerSettings dozerSettings() {
+ *     return new DozerSettings()
+ *       .addMappingFile("dozer/mappings.xml")
+ *       .addTypePair(Foo.class, FooDto.class);
+ *   }
+ * </code></pre>
+ */
+public class DozerSettings {
+
+	/**
+	 * Location of mapping files.
+	 */
+	private final List<String> mappingFiles;
+
+	/**
+	 * Pairs of classes.
+	 */
+	private final Set<TypePair> typePairs;
+
+	/**
+	 * Create empty settings.
+	 */
+	public DozerSettings() {
+		this.mappingFiles = new ArrayList<>();
+		this.typePairs = new LinkedHashSet<>();
+	}
+
+	/**
+	 * Add mapping file.
+	 *
+	 * @param location Location of mapping file (in classpath, or an URL).
+	 * @return Current settings.
+	 */
+	public DozerSettings addMappingFile(String location) {
+		mappingFiles.add(notNull(location, "Mapping file location must not be null"));
+		return this;
+	}
+
+	/**
+	 * Add pair of classes: one way class mapping is built when Dozer is initialized.
+	 * Classes must not be mapped in mapping files, in any direction.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Current settings.
+	 */
+	public DozerSettings addTypePair(Class<?> source, Class<?> destination) {
+		typePairs.add(TypePair.of(source, destination));
+		return this;
+	}
+
+	/**
+	 * Check if settings are empty, i.e if there is no mapping file and no pair of classes.
+	 *
+	 * @return {@code true} if settings are empty, {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return mappingFiles.isEmpty() && typePairs.isEmpty();
+	}
+
+	/**
+	 * Get location of mapping files.
+	 *
+	 * @return Mapping files.
+	 */
+	public List<String> getMappingFiles() {
+		return Collections.unmodifiableList(mappingFiles);
+	}
+
+	/**
+	 * Get pairs of classes.
+	 *
+	 * @return Pairs of classes.
+	 */
+	public Set<TypePair> getTypePairs() {
+		return Collections.unmodifiableSet(typePairs);
+	}
+}
@@ -27,17 +27,29 @@ package com.github.mjeanroy.spring.mappers.configuration.modelmapper;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collections;
+import java.util.List;
+
 @Configuration
 class ModelMapperBeanConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(ModelMapperBeanConfiguration.class);
 
+	@Autowired(required = false)
+	private List<ModelMapperConfigurer> configurers = Collections.emptyList();
+
 	@Bean
 	public ModelMapper modelMapper() {
 		log.info("Create modelMapper bean");
-		return new ModelMapper();
+		ModelMapper modelMapper = new ModelMapper();
+		for (ModelMapperConfigurer configurer : configurers) {
+			configurer.configure(modelMapper);
+		}
+
+		return modelMapper;
 	}
 }
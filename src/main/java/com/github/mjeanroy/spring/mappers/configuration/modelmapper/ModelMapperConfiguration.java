@@ -29,10 +29,14 @@ import com.github.mjeanroy.spring.mappers.impl.modelmapper.ModelMapperMapper;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import java.util.Collections;
+import java.util.List;
+
 @Configuration
 @Import({
 		ModelMapperBeanConfiguration.class
@@ -41,9 +45,19 @@ public class ModelMapperConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(ModelMapperConfiguration.class);
 
+	@Autowired(required = false)
+	private List<ModelMapperConfigurer> configurers = Collections.emptyList();
+
 	@Bean
 	public Mapper mapper(ModelMapper modelMapper) {
 		log.info("Create modelMapper mapper implementation bean");
-		return new ModelMapperMapper(modelMapper);
+		ModelMapperMapper mapper = new ModelMapperMapper(modelMapper);
+
+		// Create and validate type maps of known pairs now, instead of during first mapping.
+		for (ModelMapperConfigurer configurer : configurers) {
+			mapper.prepare(configurer.getTypePairs());
+		}
+
+		return mapper;
 	}
 }
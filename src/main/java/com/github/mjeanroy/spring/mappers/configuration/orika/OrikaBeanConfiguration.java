@@ -25,22 +25,45 @@
 package com.github.mjeanroy.spring.mappers.configuration.orika;
 
 import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
 import ma.glasnost.orika.impl.DefaultMapperFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collections;
+import java.util.List;
+
 @Configuration
 class OrikaBeanConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(OrikaBeanConfiguration.class);
 
+	@Autowired(required = false)
+	private List<OrikaConfigurer> configurers = Collections.emptyList();
+
+	@Bean
+	public MapperFactory mapperFactory() {
+		log.info("Create orika factory bean");
+
+		DefaultMapperFactory.Builder builder = new DefaultMapperFactory.Builder();
+		for (OrikaConfigurer configurer : configurers) {
+			configurer.configureBuilder(builder);
+		}
+
+		MapperFactory mapperFactory = builder.build();
+		for (OrikaConfigurer configurer : configurers) {
+			configurer.configureFactory(mapperFactory);
+		}
+
+		return mapperFactory;
+	}
+
 	@Bean
-	public MapperFacade mapperFacade() {
+	public MapperFacade mapperFacade(MapperFactory mapperFactory) {
 		log.info("Create orika bean");
-		return new DefaultMapperFactory.Builder()
-				.build()
-				.getMapperFacade();
+		return mapperFactory.getMapperFacade();
 	}
 }
@@ -26,13 +26,17 @@ package com.github.mjeanroy.spring.mappers.configuration.orika;
 
 import com.github.mjeanroy.spring.mappers.Mapper;
 import com.github.mjeanroy.spring.mappers.impl.orika.OrikaMapper;
-import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import java.util.Collections;
+import java.util.List;
+
 @Configuration
 @Import({
 		OrikaBeanConfiguration.class
@@ -41,9 +45,19 @@ public class OrikaConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(OrikaConfiguration.class);
 
+	@Autowired(required = false)
+	private List<OrikaConfigurer> configurers = Collections.emptyList();
+
 	@Bean
-	public Mapper mapper(MapperFacade mapperFacade) {
+	public Mapper mapper(MapperFactory mapperFactory) {
 		log.info("Create orika mapper implementation bean");
-		return new OrikaMapper(mapperFacade);
+		OrikaMapper mapper = new OrikaMapper(mapperFactory);
+
+		// Generate mappers of known pairs now, instead of during first mapping.
+		for (OrikaConfigurer configurer : configurers) {
+			mapper.prepare(configurer.getTypePairs());
+		}
+
+		return mapper;
 	}
 }
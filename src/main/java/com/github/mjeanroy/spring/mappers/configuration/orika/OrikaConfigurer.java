@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration.orika;
+
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Callback used to customize Orika mapper factory created by {@link OrikaConfiguration}.
+ * Each bean implementing this interface is called when mapper factory is created.
+ */
+public interface OrikaConfigurer {
+
+	/**
+	 * Configure factory builder before mapper factory is built: compiler strategy,
+	 * mapping of {@code null} values, etc.
+	 *
+	 * @param builder Factory builder.
+	 */
+	default void configureBuilder(DefaultMapperFactory.Builder builder) {
+	}
+
+	/**
+	 * Configure mapper factory: register class maps, converters, etc.
+	 *
+	 * @param mapperFactory Mapper factory.
+	 */
+	default void configureFactory(MapperFactory mapperFactory) {
+	}
+
+	/**
+	 * Get pairs of classes whose mappers must be generated at startup, instead of
+	 * during first mapping.
+	 *
+	 * @return Pairs of source and destination classes.
+	 */
+	default Collection<TypePair> getTypePairs() {
+		return Collections.emptyList();
+	}
+}
@@ -24,6 +24,15 @@
 
 package com.github.mjeanroy.spring.mappers.factory;
 
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
 /**
  * Static method to create object factories.
  */
@@ -36,6 +45,10 @@ public final class ObjectFactories {
 	/**
 	 * Create new object based on reflection to create target beans (use empty constructor).
 	 *
+	 * Empty constructor is resolved once (on first call) and invoked through
+	 * a cached {@link MethodHandle}: constructor lookup and access checks are not
+	 * executed each time a bean is created.
+	 *
 	 * @param targetClass Destination type.
 	 * @param sourceClass Source type.
 	 * @param <T> Destination class.
@@ -47,8 +60,65 @@ public final class ObjectFactories {
 	}
 
 	private static class ReflectionObjectFactory<T, U> extends AbstractObjectFactory<T, U> {
+
+		/**
+		 * Type of constructor handle: take no arguments and return an object.
+		 */
+		private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+		/**
+		 * Handle to empty constructor of target class.
+		 * It is resolved lazily on first call, so that a factory can still be created for
+		 * a class that cannot be instantiated (error will be thrown when a bean is created).
+		 */
+		private volatile MethodHandle constructor;
+
 		private ReflectionObjectFactory(Class<T> klassT, Class<U> klassU) {
 			super(klassT, klassU);
 		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(U source) {
+			MethodHandle handle = constructor;
+			if (handle == null) {
+				// Concurrent resolution is harmless: both threads get an equivalent handle.
+				handle = resolveConstructor();
+				constructor = handle;
+			}
+
+			try {
+				return (T) (Object) handle.invokeExact();
+			}
+			catch (Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new BeanInstantiationException(getTargetClass(), "Constructor threw exception", ex);
+			}
+		}
+
+		private MethodHandle resolveConstructor() {
+			Class<T> klass = getTargetClass();
+			if (klass.isInterface()) {
+				throw new BeanInstantiationException(klass, "Specified class is an interface");
+			}
+
+			if (Modifier.isAbstract(klass.getModifiers())) {
+				throw new BeanInstantiationException(klass, "Is it an abstract class?");
+			}
+
+			try {
+				Constructor<T> ctor = klass.getDeclaredConstructor();
+				ReflectionUtils.makeAccessible(ctor);
+				return MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+			}
+			catch (NoSuchMethodException ex) {
+				throw new BeanInstantiationException(klass, "No default constructor found", ex);
+			}
+			catch (IllegalAccessException ex) {
+				throw new BeanInstantiationException(klass, "Is the constructor accessible?", ex);
+			}
+		}
 	}
 }
@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.compiled;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Base class of mappers generated at compile time for object mappers annotated
+ * with {@link com.github.mjeanroy.spring.mappers.CompiledMapper}.
+ *
+ * Generated mappers are bound to a single pair of source and destination classes.
+ *
+ * @param <T> Type of source objects.
+ * @param <U> Type of destination objects.
+ */
+public abstract class AbstractCompiledMapper<T, U> extends AbstractMapper<AbstractCompiledMapper<T, U>> implements Mapper {
+
+	/**
+	 * Class of source objects.
+	 */
+	private final Class<T> sourceClass;
+
+	/**
+	 * Class of destination objects.
+	 */
+	private final Class<U> destinationClass;
+
+	/**
+	 * Create mapper.
+	 *
+	 * Classes are not typed since generated mappers may be bound to parameterized
+	 * types (and class literals of parameterized types are raw types).
+	 *
+	 * @param sourceClass Class of source objects.
+	 * @param destinationClass Class of destination objects.
+	 */
+	@SuppressWarnings("unchecked")
+	protected AbstractCompiledMapper(Class<?> sourceClass, Class<?> destinationClass) {
+		this.sourceClass = (Class<T>) notNull(sourceClass, "Source class must not be null");
+		this.destinationClass = (Class<U>) notNull(destinationClass, "Destination class must not be null");
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S, D> void map(S source, D destination) {
+		copy((T) source, (U) destination);
+	}
+
+	/**
+	 * Copy properties of source object to destination object.
+	 *
+	 * @param source Source object.
+	 * @param destination Destination object.
+	 */
+	protected abstract void copy(T source, U destination);
+
+	/**
+	 * Get class of source objects.
+	 *
+	 * @return Source class.
+	 */
+	public Class<T> getSourceClass() {
+		return sourceClass;
+	}
+
+	/**
+	 * Get class of destination objects.
+	 *
+	 * @return Destination class.
+	 */
+	public Class<U> getDestinationClass() {
+		return destinationClass;
+	}
+
+	@Override
+	public AbstractCompiledMapper<T, U> getDelegate() {
+		return this;
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.compiled;
+
+import com.github.mjeanroy.spring.mappers.CompiledMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Static utilities to find mappers generated for object mappers
+ * annotated with {@link CompiledMapper}.
+ */
+public final class CompiledMappers {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(CompiledMappers.class);
+
+	/**
+	 * Suffix appended to the name of an annotated class to get the name
+	 * of its generated mapper.
+	 */
+	public static final String SUFFIX = "_CompiledMapper";
+
+	// Ensure non instantiation
+	private CompiledMappers() {
+	}
+
+	/**
+	 * Get name of mapper generated for given class.
+	 *
+	 * Generated mapper is a top level class in the same package than annotated class,
+	 * named with the (nested) simple names of annotated class joined with an underscore,
+	 * followed by {@link #SUFFIX}.
+	 * For example, {@code com.acme.Outer.FooMapper} gives {@code com.acme.Outer_FooMapper_CompiledMapper}.
+	 *
+	 * @param packageName Package name of annotated class.
+	 * @param simpleNames Simple names of annotated class and of its enclosing classes, from outermost to innermost.
+	 * @return Name of generated mapper.
+	 */
+	public static String generatedClassName(String packageName, String... simpleNames) {
+		StringBuilder sb = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			sb.append(packageName).append('.');
+		}
+
+		for (int i = 0; i < simpleNames.length; i++) {
+			if (i > 0) {
+				sb.append('_');
+			}
+			sb.append(simpleNames[i]);
+		}
+
+		return sb.append(SUFFIX).toString();
+	}
+
+	/**
+	 * Find and instantiate mapper generated for given object mapper class.
+	 *
+	 * If class is not annotated with {@link CompiledMapper}, or if generated mapper cannot be found
+	 * (i.e annotation processor has not been executed), {@code null} is returned.
+	 *
+	 * @param klass Object mapper class.
+	 * @param <T> Type of source objects.
+	 * @param <U> Type of destination objects.
+	 * @return Generated mapper, may be {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> AbstractCompiledMapper<T, U> lookup(Class<?> klass) {
+		if (!klass.isAnnotationPresent(CompiledMapper.class)) {
+			return null;
+		}
+
+		String className = generatedClassName(klass);
+		log.debug("Looking for compiled mapper: {}", className);
+
+		try {
+			Class<?> generatedClass = Class.forName(className, true, klass.getClassLoader());
+			return (AbstractCompiledMapper<T, U>) BeanUtils.instantiateClass(generatedClass);
+		}
+		catch (ClassNotFoundException ex) {
+			log.warn("Compiled mapper {} of class {} cannot be found, is annotation processor enabled?", className, klass.getName());
+			return null;
+		}
+	}
+
+	private static String generatedClassName(Class<?> klass) {
+		int depth = 0;
+		for (Class<?> current = klass; current != null; current = current.getEnclosingClass()) {
+			depth++;
+		}
+
+		String[] simpleNames = new String[depth];
+		Class<?> outermost = klass;
+		for (int i = depth - 1; i >= 0; i--) {
+			simpleNames[i] = outermost.getSimpleName();
+			if (i > 0) {
+				outermost = outermost.getEnclosingClass();
+			}
+		}
+
+		String outermostName = outermost.getName();
+		int lastDot = outermostName.lastIndexOf('.');
+		String packageName = lastDot < 0 ? "" : outermostName.substring(0, lastDot);
+		return generatedClassName(packageName, simpleNames);
+	}
+}
@@ -25,8 +25,19 @@
 package com.github.mjeanroy.spring.mappers.impl.dozer;
 
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
 import org.dozer.DozerBeanMapper;
+import org.dozer.MappingException;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
@@ -35,12 +46,20 @@ import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
  */
 public class DozerMapper extends AbstractMapper<DozerBeanMapper> implements Mapper {
 
+	private static final Logger log = LoggerFactory.getLogger(DozerMapper.class);
+
 	/**
 	 * Original Dozer Mapper.
 	 * This mapper will be used internally to map bean fields.
 	 */
 	private final DozerBeanMapper mapper;
 
+	/**
+	 * Time spent to initialize Dozer mapper, in nanoseconds ({@code -1} if
+	 * Dozer mapper has not been initialized eagerly).
+	 */
+	private volatile long initializationTime;
+
 	/**
 	 * Build new mapper.
 	 *
@@ -48,6 +67,77 @@ public class DozerMapper extends AbstractMapper<DozerBeanMapper> implements Mapp
 	 */
 	public DozerMapper(DozerBeanMapper mapper) {
 		this.mapper = notNull(mapper, "Dozer bean mapper must not be null");
+		this.initializationTime = -1;
+	}
+
+	/**
+	 * Load given mapping files and class mappings of given pairs of classes, then
+	 * initialize Dozer mapper, so that first mapping does not have to load mappings
+	 * (Dozer initializes its mappings lazily, during first mapping, under a lock).
+	 *
+	 * This method must be called before any mapping: mappings cannot be added once Dozer
+	 * mapper is initialized. Class mappings of given pairs are one way mappings: pairs of
+	 * classes must not be mapped in given mapping files (mapping files define
+	 * bidirectional mappings by default), since Dozer rejects duplicate class mappings.
+	 *
+	 * @param mappingFiles Location of mapping files.
+	 * @param typePairs Pairs of source and destination classes.
+	 * @throws IllegalStateException If Dozer mapper is already initialized.
+	 */
+	public void initialize(Collection<String> mappingFiles, Iterable<TypePair> typePairs) {
+		notNull(mappingFiles, "Mapping files must not be null");
+		notNull(typePairs, "Type pairs must not be null");
+
+		if (isInitialized()) {
+			throw new IllegalStateException("Dozer mapper is already initialized");
+		}
+
+		long start = System.nanoTime();
+
+		if (!mappingFiles.isEmpty()) {
+			List<String> files = new ArrayList<>(mapper.getMappingFiles());
+			files.addAll(mappingFiles);
+			mapper.setMappingFiles(files);
+		}
+
+		for (TypePair typePair : typePairs) {
+			log.debug("Add class mapping: {}", typePair);
+			mapper.addMapping(new TypePairMappingBuilder(typePair));
+		}
+
+		// Reading mapping metadata loads all mappings.
+		mapper.getMappingMetadata();
+
+		initializationTime = System.nanoTime() - start;
+		log.info("Dozer mapper initialized in {} ms", TimeUnit.NANOSECONDS.toMillis(initializationTime));
+	}
+
+	/**
+	 * Check if Dozer mapper is initialized, i.e if mappings have already been loaded (eagerly, or
+	 * during a first mapping): mapping files and class mappings cannot be added anymore.
+	 *
+	 * @return {@code true} if Dozer mapper is initialized, {@code false} otherwise.
+	 */
+	public boolean isInitialized() {
+		try {
+			// Dozer does not expose its state, but rejects any settings once initialized.
+			mapper.setMappingFiles(new ArrayList<>(mapper.getMappingFiles()));
+			return false;
+		}
+		catch (MappingException ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Get time spent in {@link #initialize(Collection, Iterable)}.
+	 *
+	 * @param unit Time unit.
+	 * @return Initialization time, {@code -1} if Dozer mapper has not been initialized eagerly.
+	 */
+	public long getInitializationTime(TimeUnit unit) {
+		long nanos = initializationTime;
+		return nanos < 0 ? -1 : unit.convert(nanos, TimeUnit.NANOSECONDS);
 	}
 
 	@Override
@@ -59,4 +149,21 @@ public class DozerMapper extends AbstractMapper<DozerBeanMapper> implements Mapp
 	public DozerBeanMapper getDelegate() {
 		return mapper;
 	}
+
+	/**
+	 * One way mapping of a pair of classes, with default options.
+	 */
+	private static class TypePairMappingBuilder extends BeanMappingBuilder {
+
+		private final TypePair typePair;
+
+		private TypePairMappingBuilder(TypePair typePair) {
+			this.typePair = typePair;
+		}
+
+		@Override
+		protected void configure() {
+			mapping(typePair.getSource(), typePair.getDestination(), TypeMappingOptions.oneWay());
+		}
+	}
 }
@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.generated;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
+import org.springframework.cglib.beans.BeanCopier;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Bean mapper implementation using generated bytecode.
+ *
+ * On first use of a pair of source and destination classes, a dedicated copier class is
+ * generated (using CGLIB bundled with spring framework): this class copies properties with
+ * direct getter and setter calls, without any reflection.
+ *
+ * A property is copied if source and destination classes have a public getter and a public
+ * setter with the same name, and if setter type is assignable from getter type.
+ */
+public class GeneratedMapper extends AbstractMapper<GeneratedMapper> implements Mapper {
+
+	/**
+	 * Generated copiers, per pair of source and destination classes.
+	 */
+	private final ConcurrentMap<TypePair, BeanCopier> copiers;
+
+	/**
+	 * Build new mapper.
+	 */
+	public GeneratedMapper() {
+		this.copiers = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public <T, U> void map(T source, U destination) {
+		notNull(source, "Source must not be null");
+		notNull(destination, "Destination must not be null");
+		copier(source.getClass(), destination.getClass()).copy(source, destination, null);
+	}
+
+	@Override
+	public GeneratedMapper getDelegate() {
+		return this;
+	}
+
+	/**
+	 * Get copier of given source and destination classes.
+	 * Copier class is generated on first call and cached.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Copier.
+	 */
+	BeanCopier copier(Class<?> source, Class<?> destination) {
+		TypePair key = TypePair.of(source, destination);
+		BeanCopier copier = copiers.get(key);
+		if (copier == null) {
+			BeanCopier newCopier = BeanCopier.create(source, destination, false);
+			copier = copiers.putIfAbsent(key, newCopier);
+			if (copier == null) {
+				copier = newCopier;
+			}
+		}
+
+		return copier;
+	}
+}
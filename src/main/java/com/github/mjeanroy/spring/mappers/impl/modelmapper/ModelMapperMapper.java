@@ -21,26 +21,55 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-
 package com.github.mjeanroy.spring.mappers.impl.modelmapper;
 
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
 /**
  * Bean mapper implementation using ModelMapper framework.
+ *
+ * Type maps are resolved once per pair of source and destination classes and cached:
+ * mapping operations are then delegated to the cached type map directly.
+ * Type maps of known pairs can be created and validated before first mapping operation
+ * using {@link #prepare(Class, Class)} or {@link #prepare(Iterable)}.
  */
 public class ModelMapperMapper extends AbstractMapper<ModelMapper> implements Mapper {
 
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(ModelMapperMapper.class);
+
 	/**
 	 * Original ModelMapper mapper.
 	 * This mapper will be used internally to map bean fields.
 	 */
 	private final ModelMapper modelMapper;
 
+	/**
+	 * Resolved type maps, per pair of source and destination classes.
+	 */
+	@SuppressWarnings("rawtypes")
+	private final ConcurrentMap<TypePair, TypeMap> typeMaps;
+
+	/**
+	 * Lock used to create type maps: ModelMapper fails if a type map is created twice.
+	 */
+	private final Object lock;
+
 	/**
 	 * Build new mapper.
 	 *
@@ -48,15 +77,110 @@ public class ModelMapperMapper extends AbstractMapper<ModelMapper> implements Ma
 	 */
 	public ModelMapperMapper(ModelMapper modelMapper) {
 		this.modelMapper = notNull(modelMapper, "Model mapper must not be null");
+		this.typeMaps = new ConcurrentHashMap<>();
+		this.lock = new Object();
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T, U> void map(T source, U destination) {
-		modelMapper.map(source, destination);
+		notNull(source, "Source must not be null");
+		notNull(destination, "Destination must not be null");
+		typeMap(source.getClass(), destination.getClass()).map(source, destination);
+	}
+
+	@Override
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public <T, U> void mapAll(List<T> sources, ObjectFactory<U, T> factory, List<U> destinations) {
+		// Type map is resolved again only if source or destination class changes.
+		TypeMap typeMap = null;
+		Class<?> sourceClass = null;
+		Class<?> destinationClass = null;
+
+		for (T source : sources) {
+			if (source == null) {
+				destinations.add(null);
+				continue;
+			}
+
+			U destination = buildDestination(source, factory);
+			if (source.getClass() != sourceClass || destination.getClass() != destinationClass) {
+				sourceClass = source.getClass();
+				destinationClass = destination.getClass();
+				typeMap = typeMap(sourceClass, destinationClass);
+			}
+
+			typeMap.map(source, destination);
+			destinations.add(destination);
+		}
 	}
 
 	@Override
 	public ModelMapper getDelegate() {
 		return modelMapper;
 	}
+
+	/**
+	 * Create (if needed) and validate type map of given source and destination classes.
+	 * Validation ensures that each destination property is matched: if it is not the case,
+	 * a {@link org.modelmapper.ValidationException} is thrown.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @param <T> Type of source objects.
+	 * @param <U> Type of destination objects.
+	 * @return Type map.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, U> TypeMap<T, U> prepare(Class<T> source, Class<U> destination) {
+		TypeMap<T, U> typeMap = typeMap(
+				notNull(source, "Source class must not be null"),
+				notNull(destination, "Destination class must not be null")
+		);
+
+		typeMap.validate();
+		return typeMap;
+	}
+
+	/**
+	 * Create (if needed) and validate type maps of each given pair of classes.
+	 *
+	 * @param pairs Pairs of source and destination classes.
+	 * @see #prepare(Class, Class)
+	 */
+	public void prepare(Iterable<TypePair> pairs) {
+		for (TypePair pair : notNull(pairs, "Type pairs must not be null")) {
+			prepare(pair.getSource(), pair.getDestination());
+		}
+	}
+
+	/**
+	 * Get type map of given source and destination classes.
+	 * Type map is resolved (or created) on first call and cached.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Type map.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	TypeMap typeMap(Class<?> source, Class<?> destination) {
+		TypePair key = TypePair.of(source, destination);
+		TypeMap typeMap = typeMaps.get(key);
+		if (typeMap == null) {
+			synchronized (lock) {
+				typeMap = typeMaps.get(key);
+				if (typeMap == null) {
+					log.debug("Create type map of {}", key);
+					typeMap = modelMapper.getTypeMap((Class) source, (Class) destination);
+					if (typeMap == null) {
+						typeMap = modelMapper.createTypeMap((Class) source, (Class) destination);
+					}
+
+					typeMaps.put(key, typeMap);
+				}
+			}
+		}
+
+		return typeMap;
+	}
 }
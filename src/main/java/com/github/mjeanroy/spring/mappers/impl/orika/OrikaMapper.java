@@ -21,17 +21,30 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-
 package com.github.mjeanroy.spring.mappers.impl.orika;
 
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
+import ma.glasnost.orika.BoundMapperFacade;
 import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
 /**
  * Bean mapper implementation using Orika framework.
+ *
+ * When mapper is created with an Orika {@link MapperFactory}, a {@link BoundMapperFacade} is
+ * created on first use of each pair of source and destination classes, and cached: next
+ * mapping operations of this pair do not need to resolve mapping strategy anymore.
+ * When mapper is created with a {@link MapperFacade}, mapping is delegated to this facade.
  */
 public class OrikaMapper extends AbstractMapper<MapperFacade> implements Mapper {
 
@@ -41,22 +54,160 @@ public class OrikaMapper extends AbstractMapper<MapperFacade> implements Mapper
 	 */
 	private final MapperFacade mapperFacade;
 
+	/**
+	 * Orika factory, used to create bound facades.
+	 * May be {@code null} if mapper has been created with a facade.
+	 */
+	private final MapperFactory mapperFactory;
+
+	/**
+	 * Bound facades, per pair of source and destination classes.
+	 */
+	@SuppressWarnings("rawtypes")
+	private final ConcurrentMap<TypePair, BoundMapperFacade> facades;
+
+	/**
+	 * Number of mapping operations using an already created bound facade.
+	 */
+	private final LongAdder hits;
+
+	/**
+	 * Number of bound facades created.
+	 */
+	private final LongAdder misses;
+
 	/**
 	 * Build new mapper.
 	 *
 	 * @param mapperFacade Orika mapper instance.
 	 */
 	public OrikaMapper(MapperFacade mapperFacade) {
-		this.mapperFacade = notNull(mapperFacade, "Orika facade must not be null");
+		this(notNull(mapperFacade, "Orika facade must not be null"), null);
+	}
+
+	/**
+	 * Build new mapper, using bound facades created with given factory.
+	 *
+	 * @param mapperFactory Orika mapper factory.
+	 */
+	public OrikaMapper(MapperFactory mapperFactory) {
+		this(notNull(mapperFactory, "Orika factory must not be null").getMapperFacade(), mapperFactory);
+	}
+
+	private OrikaMapper(MapperFacade mapperFacade, MapperFactory mapperFactory) {
+		this.mapperFacade = mapperFacade;
+		this.mapperFactory = mapperFactory;
+		this.facades = new ConcurrentHashMap<>();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T, U> void map(T source, U destination) {
-		mapperFacade.map(source, destination);
+		if (mapperFactory == null) {
+			mapperFacade.map(source, destination);
+		}
+		else {
+			notNull(source, "Source must not be null");
+			notNull(destination, "Destination must not be null");
+			facade(source.getClass(), destination.getClass()).map(source, destination);
+		}
+	}
+
+	@Override
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public <T, U> void mapAll(List<T> sources, ObjectFactory<U, T> factory, List<U> destinations) {
+		if (mapperFactory == null) {
+			super.mapAll(sources, factory, destinations);
+			return;
+		}
+
+		// Bound facade is resolved again only if source or destination class changes.
+		BoundMapperFacade facade = null;
+		Class<?> sourceClass = null;
+		Class<?> destinationClass = null;
+
+		for (T source : sources) {
+			if (source == null) {
+				destinations.add(null);
+				continue;
+			}
+
+			U destination = buildDestination(source, factory);
+			if (source.getClass() != sourceClass || destination.getClass() != destinationClass) {
+				sourceClass = source.getClass();
+				destinationClass = destination.getClass();
+				facade = facade(sourceClass, destinationClass);
+			}
+
+			facade.map(source, destination);
+			destinations.add(destination);
+		}
 	}
 
 	@Override
 	public MapperFacade getDelegate() {
 		return mapperFacade;
 	}
+
+	/**
+	 * Get number of mapping operations that used a cached bound facade.
+	 *
+	 * @return Number of cache hits.
+	 */
+	public long getCacheHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Get number of mapping operations that needed to create a bound facade.
+	 *
+	 * @return Number of cache misses.
+	 */
+	public long getCacheMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Create bound facades of each given pair of classes: Orika generates mapper
+	 * of each pair (and its class map, if none has been registered) now, instead
+	 * of during first mapping.
+	 *
+	 * @param pairs Pairs of source and destination classes.
+	 * @throws IllegalStateException If this mapper has not been created with a mapper factory.
+	 */
+	public void prepare(Iterable<TypePair> pairs) {
+		notNull(pairs, "Type pairs must not be null");
+		if (mapperFactory == null) {
+			throw new IllegalStateException("Orika mapper must be created with a mapper factory to prepare type pairs");
+		}
+
+		for (TypePair pair : pairs) {
+			facade(pair.getSource(), pair.getDestination());
+		}
+	}
+
+	/**
+	 * Get bound facade of given source and destination classes.
+	 * Facade is created on first call and cached.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Bound facade.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	BoundMapperFacade facade(Class<?> source, Class<?> destination) {
+		TypePair key = TypePair.of(source, destination);
+		BoundMapperFacade facade = facades.get(key);
+		if (facade != null) {
+			hits.increment();
+			return facade;
+		}
+
+		misses.increment();
+		BoundMapperFacade newFacade = mapperFactory.getMapperFacade((Class) source, (Class) destination);
+		facade = facades.putIfAbsent(key, newFacade);
+		return facade == null ? newFacade : facade;
+	}
 }
@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.spring;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.FatalBeanException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled copy of properties from a class of source objects to a
+ * class of destination objects.
+ *
+ * Properties are matched with the same rules as {@link BeanUtils#copyProperties(Object, Object)}:
+ * a destination property is copied if it is writable, if source has a readable property with
+ * the same name and if source value can be assigned to the destination property.
+ *
+ * Matching is done once, when the copier is created: each pair of getter and setter
+ * is bound to a {@link MethodHandle}.
+ */
+final class PropertyCopier {
+
+	/**
+	 * Type of getter handles: take the source object and return the property value.
+	 */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * Type of setter handles: take the destination object and the property value.
+	 */
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Create copier for given source and destination classes.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Copier.
+	 */
+	static PropertyCopier create(Class<?> source, Class<?> destination) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		List<String> names = new ArrayList<>();
+		List<MethodHandle> getters = new ArrayList<>();
+		List<MethodHandle> setters = new ArrayList<>();
+
+		for (PropertyDescriptor targetPd : BeanUtils.getPropertyDescriptors(destination)) {
+			Method writeMethod = targetPd.getWriteMethod();
+			if (writeMethod == null) {
+				continue;
+			}
+
+			PropertyDescriptor sourcePd = BeanUtils.getPropertyDescriptor(source, targetPd.getName());
+			Method readMethod = sourcePd == null ? null : sourcePd.getReadMethod();
+			if (readMethod == null || !ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType())) {
+				continue;
+			}
+
+			ReflectionUtils.makeAccessible(readMethod);
+			ReflectionUtils.makeAccessible(writeMethod);
+
+			try {
+				getters.add(lookup.unreflect(readMethod).asType(GETTER_TYPE));
+				setters.add(lookup.unreflect(writeMethod).asType(SETTER_TYPE));
+				names.add(targetPd.getName());
+			}
+			catch (IllegalAccessException ex) {
+				throw new FatalBeanException("Could not access property '" + targetPd.getName() + "' from source to target", ex);
+			}
+		}
+
+		return new PropertyCopier(
+				names.toArray(new String[names.size()]),
+				getters.toArray(new MethodHandle[getters.size()]),
+				setters.toArray(new MethodHandle[setters.size()])
+		);
+	}
+
+	/**
+	 * Name of copied properties.
+	 */
+	private final String[] names;
+
+	/**
+	 * Getters of source properties, same order as {@link #names}.
+	 */
+	private final MethodHandle[] getters;
+
+	/**
+	 * Setters of destination properties, same order as {@link #names}.
+	 */
+	private final MethodHandle[] setters;
+
+	private PropertyCopier(String[] names, MethodHandle[] getters, MethodHandle[] setters) {
+		this.names = names;
+		this.getters = getters;
+		this.setters = setters;
+	}
+
+	/**
+	 * Copy properties of source object to destination object.
+	 *
+	 * @param source Source object.
+	 * @param destination Destination object.
+	 */
+	void copy(Object source, Object destination) {
+		for (int i = 0; i < names.length; i++) {
+			try {
+				Object value = (Object) getters[i].invokeExact(source);
+				setters[i].invokeExact(destination, value);
+			}
+			catch (Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new FatalBeanException("Could not copy property '" + names[i] + "' from source to target", ex);
+			}
+		}
+	}
+
+	/**
+	 * Get number of copied properties.
+	 *
+	 * @return Number of properties.
+	 */
+	int size() {
+		return names.length;
+	}
+}
@@ -24,13 +24,35 @@
 
 package com.github.mjeanroy.spring.mappers.impl.spring;
 
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
 import org.springframework.beans.BeanUtils;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
 /**
  * Spring mapper implementation.
+ *
+ * Properties are copied with the same rules as {@link BeanUtils#copyProperties(Object, Object)}, but
+ * introspection is done once per pair of source and destination classes: matching getters and
+ * setters are cached and reused for each subsequent copy.
  */
 public class SpringFacadeMapper {
 
+	/**
+	 * Property copiers, per pair of source and destination classes.
+	 */
+	private final ConcurrentMap<TypePair, PropertyCopier> copiers;
+
+	/**
+	 * Build new mapper.
+	 */
+	public SpringFacadeMapper() {
+		this.copiers = new ConcurrentHashMap<>();
+	}
+
 	/**
 	 * Copy source properties (a.k.a getter values) to
 	 * destination object.
@@ -41,7 +63,9 @@ public class SpringFacadeMapper {
 	 * @param <U> Type of destination objects.
 	 */
 	public <T, U> void map(T source, U destination) {
-		BeanUtils.copyProperties(source, destination);
+		notNull(source, "Source must not be null");
+		notNull(destination, "Destination must not be null");
+		copier(source.getClass(), destination.getClass()).copy(source, destination);
 	}
 
 	/**
@@ -60,4 +84,26 @@ public class SpringFacadeMapper {
 		map(source, destination);
 		return destination;
 	}
+
+	/**
+	 * Get property copier of given source and destination classes.
+	 * Copier is created on first call and cached.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Property copier.
+	 */
+	PropertyCopier copier(Class<?> source, Class<?> destination) {
+		TypePair key = TypePair.of(source, destination);
+		PropertyCopier copier = copiers.get(key);
+		if (copier == null) {
+			PropertyCopier newCopier = PropertyCopier.create(source, destination);
+			copier = copiers.putIfAbsent(key, newCopier);
+			if (copier == null) {
+				copier = newCopier;
+			}
+		}
+
+		return copier;
+	}
 }
@@ -25,8 +25,11 @@
 package com.github.mjeanroy.spring.mappers.impl.spring;
 
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapper;
 
+import java.util.List;
+
 /**
  * Bean mapper implementation using only spring static
  * methods (map {@link org.springframework.beans.BeanUtils} class).
@@ -50,6 +53,31 @@ public class SpringMapper extends AbstractMapper<SpringFacadeMapper> implements
 		mapper.map(source, destination);
 	}
 
+	@Override
+	public <T, U> void mapAll(List<T> sources, ObjectFactory<U, T> factory, List<U> destinations) {
+		// Copier is resolved again only if source or destination class changes.
+		PropertyCopier copier = null;
+		Class<?> sourceClass = null;
+		Class<?> destinationClass = null;
+
+		for (T source : sources) {
+			if (source == null) {
+				destinations.add(null);
+				continue;
+			}
+
+			U destination = buildDestination(source, factory);
+			if (source.getClass() != sourceClass || destination.getClass() != destinationClass) {
+				sourceClass = source.getClass();
+				destinationClass = destination.getClass();
+				copier = mapper.copier(sourceClass, destinationClass);
+			}
+
+			copier.copy(source, destination);
+			destinations.add(destination);
+		}
+	}
+
 	@Override
 	public SpringFacadeMapper getDelegate() {
 		return mapper;
@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only list implementation storing elements in chunks of arrays.
+ *
+ * First chunk can store {@link #FIRST_CHUNK_SIZE} elements, and each new chunk is twice
+ * as big as the previous one: contrary to {@link java.util.ArrayList}, elements are never
+ * copied when list grows, and contrary to {@link java.util.LinkedList}, there is no
+ * node allocated per element.
+ *
+ * Since chunk sizes are powers of two, index of chunk containing an element can be computed
+ * in constant time: this list is a random access list.
+ *
+ * Elements can only be appended with {@link #add(Object)}, other modifications are not supported.
+ *
+ * @param <T> Type of list elements.
+ */
+final class ChunkedArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+	/**
+	 * Size of first chunk, must be a power of two.
+	 */
+	static final int FIRST_CHUNK_SIZE = 16;
+
+	/**
+	 * Number of bits used to store index in first chunk.
+	 */
+	private static final int FIRST_CHUNK_SHIFT = Integer.numberOfTrailingZeros(FIRST_CHUNK_SIZE);
+
+	/**
+	 * Chunks of elements, only first {@link #chunkCount} chunks are allocated.
+	 * Chunk {@code k} has a size of {@code FIRST_CHUNK_SIZE << k}.
+	 */
+	private Object[][] chunks;
+
+	/**
+	 * Number of allocated chunks.
+	 */
+	private int chunkCount;
+
+	/**
+	 * Number of elements.
+	 */
+	private int size;
+
+	/**
+	 * Create empty list.
+	 */
+	ChunkedArrayList() {
+		this.chunks = new Object[4][];
+		this.chunkCount = 0;
+		this.size = 0;
+	}
+
+	@Override
+	public boolean add(T element) {
+		int chunk = chunkIndex(size);
+		if (chunk == chunkCount) {
+			if (chunk == chunks.length) {
+				Object[][] newChunks = new Object[chunks.length * 2][];
+				System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+				chunks = newChunks;
+			}
+
+			chunks[chunk] = new Object[FIRST_CHUNK_SIZE << chunk];
+			chunkCount++;
+		}
+
+		chunks[chunk][offset(size, chunk)] = element;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		int chunk = chunkIndex(index);
+		return (T) chunks[chunk][offset(index, chunk)];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get index of chunk containing element at given index.
+	 * Chunk {@code k} starts at index {@code FIRST_CHUNK_SIZE * (2^k - 1)}.
+	 *
+	 * @param index Element index.
+	 * @return Chunk index.
+	 */
+	private static int chunkIndex(int index) {
+		return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+	}
+
+	/**
+	 * Get offset of element in its chunk.
+	 *
+	 * @param index Element index.
+	 * @param chunk Chunk index.
+	 * @return Offset in chunk.
+	 */
+	private static int offset(int index, int chunk) {
+		return index - (FIRST_CHUNK_SIZE * ((1 << chunk) - 1));
+	}
+}
@@ -35,23 +35,64 @@ public final class Iterables {
 	}
 
 	/**
-	 * Create new list mapping iterables elements.
+	 * Class of {@link Collections#emptyList()}.
+	 */
+	private static final Class<?> EMPTY_LIST_CLASS = Collections.emptyList().getClass();
+
+	/**
+	 * Class of {@link Collections#singletonList(Object)}.
+	 */
+	private static final Class<?> SINGLETON_LIST_CLASS = Collections.singletonList(null).getClass();
+
+	/**
+	 * Prefix of immutable lists class names, created by {@code List.of} on JDK 9 or later.
+	 */
+	private static final String IMMUTABLE_COLLECTIONS_PREFIX = "java.util.ImmutableCollections$";
+
+	/**
+	 * Get random access list containing iterables elements.
+	 *
+	 * If iterables is a list known to be immutable (such as {@link Collections#emptyList()}), it
+	 * is returned as is, without any copy. Other collections (including mutable random access lists,
+	 * that may be modified once this method returns) are copied to an {@link ArrayList}, and other
+	 * iterables are copied to a chunked list (elements are not copied when list grows).
 	 *
 	 * @param iterables Iterables.
 	 * @param <T> Type of iterable elements.
-	 * @return List.
+	 * @return Random access list.
 	 */
 	public static <T> List<T> toList(Iterable<T> iterables) {
+		if (isImmutableList(iterables)) {
+			return (List<T>) iterables;
+		}
+
 		if (iterables instanceof Collection) {
 			Collection<T> c = (Collection<T>) iterables;
 			return new ArrayList<>(c);
 		}
 
-		List<T> list = new LinkedList<>();
+		List<T> list = new ChunkedArrayList<>();
 		for (T current : iterables) {
 			list.add(current);
 		}
 
 		return list;
 	}
+
+	/**
+	 * Check if given iterables is a list known to be immutable: elements and size of this
+	 * list can never change.
+	 *
+	 * @param iterables Iterables.
+	 * @return {@code true} if iterables is an immutable list, {@code false} otherwise.
+	 */
+	private static boolean isImmutableList(Iterable<?> iterables) {
+		if (!(iterables instanceof List)) {
+			return false;
+		}
+
+		// Immutable collections of JDK 9+ share the same prefix: sets must not be considered as lists.
+		Class<?> klass = iterables.getClass();
+		return klass == EMPTY_LIST_CLASS || klass == SINGLETON_LIST_CLASS || klass.getName().startsWith(IMMUTABLE_COLLECTIONS_PREFIX);
+	}
 }
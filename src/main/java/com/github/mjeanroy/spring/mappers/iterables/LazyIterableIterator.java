@@ -24,12 +24,15 @@
 
 package com.github.mjeanroy.spring.mappers.iterables;
 
+import com.github.mjeanroy.spring.mappers.AbstractObjectMapper;
 import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.jfr.MappingEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
 /**
@@ -45,6 +48,16 @@ class LazyIterableIterator<U, T> implements Iterator<U> {
 	 */
 	private static final Logger log = LoggerFactory.getLogger(LazyIterableIterator.class);
 
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(LazyIterableIterator.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
 	/**
 	 * Original iterator that will be used to iterate.
 	 * Each iterator elements will be automatically mapped to new
@@ -58,6 +71,22 @@ class LazyIterableIterator<U, T> implements Iterator<U> {
 	 */
 	private final ObjectMapper<T, U> mapper;
 
+	/**
+	 * Flight recorder event of this iteration, {@code null} if event is disabled.
+	 * Event is started by first call to {@link #next()} and committed once iteration is done.
+	 */
+	private Object event;
+
+	/**
+	 * Flag set once iteration has started.
+	 */
+	private boolean started;
+
+	/**
+	 * Number of mapped objects, only counted when {@link #event} is started.
+	 */
+	private int count;
+
 	/**
 	 * Create new iterator.
 	 *
@@ -71,20 +100,50 @@ class LazyIterableIterator<U, T> implements Iterator<U> {
 
 	@Override
 	public boolean hasNext() {
-		return iterator.hasNext();
+		final boolean hasNext = iterator.hasNext();
+		if (!hasNext && event != null) {
+			commitEvent();
+		}
+
+		return hasNext;
 	}
 
 	@Override
 	public U next() {
-		log.debug("Mapping next value");
-		log.trace("  - Mapper: {}", mapper);
+		if (!started) {
+			started = true;
+			event = MappingEvents.beginCollectionMapping();
+		}
+
+		if (event != null) {
+			count++;
+		}
+
 		final T source = iterator.next();
-		log.trace("  - Source: {}", source);
 		final U destination = mapper.map(source);
-		log.trace("  - Destination: {}", destination);
+		if (ELEMENTS_TRACE) {
+			elementsLog.trace("Mapped next value {} to: {}", source, destination);
+		}
+
 		return destination;
 	}
 
+	private void commitEvent() {
+		Class<?> sourceClass = null;
+		Class<?> destinationClass = null;
+		Class<?> provider = null;
+
+		if (mapper instanceof AbstractObjectMapper) {
+			AbstractObjectMapper<T, U> objectMapper = (AbstractObjectMapper<T, U>) mapper;
+			sourceClass = objectMapper.getSourceClass();
+			destinationClass = objectMapper.getDestinationClass();
+			provider = objectMapper.getMapper().getClass();
+		}
+
+		MappingEvents.commitCollectionMapping(event, sourceClass, destinationClass, provider, count, true);
+		event = null;
+	}
+
 	@Override
 	public void remove() {
 		log.warn("Removal operation is not supported from lazy iterator");
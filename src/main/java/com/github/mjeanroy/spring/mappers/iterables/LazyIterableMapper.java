@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
@@ -81,4 +82,10 @@ public class LazyIterableMapper<U, T> implements Iterable<U> {
 
 		return new LazyIterableIterator<>(it, mapper);
 	}
+
+	@Override
+	public Spliterator<U> spliterator() {
+		log.debug("Create lazy spliterator");
+		return new LazySpliteratorMapper<>(from.spliterator(), mapper);
+	}
 }
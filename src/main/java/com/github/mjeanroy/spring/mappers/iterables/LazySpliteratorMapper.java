@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Spliterator implementation that map elements of original spliterator
+ * to new elements during traversal.
+ *
+ * Splitting and size estimation are delegated to original spliterator: if original
+ * spliterator is sized and splits well (for example, a spliterator of an array list), this
+ * spliterator will split well too, and can be used in a parallel stream.
+ *
+ * Since mapped elements are not comparable with original elements, {@link #SORTED} and
+ * {@link #DISTINCT} characteristics are never reported. Since mapper may return {@code null}
+ * values, {@link #NONNULL} characteristic is not reported either.
+ *
+ * @param <U> Type of mapped elements.
+ * @param <T> Type of original elements.
+ */
+public class LazySpliteratorMapper<U, T> implements Spliterator<U> {
+
+	/**
+	 * Characteristics of original spliterator that are never reported.
+	 */
+	private static final int EXCLUDED_CHARACTERISTICS = SORTED | DISTINCT | NONNULL;
+
+	/**
+	 * Original spliterator.
+	 */
+	private final Spliterator<T> from;
+
+	/**
+	 * Mapper used to map original elements.
+	 */
+	private final ObjectMapper<T, U> mapper;
+
+	/**
+	 * Create spliterator.
+	 *
+	 * @param from Original spliterator.
+	 * @param mapper Mapper that will be used to map original objects to new objects.
+	 */
+	public LazySpliteratorMapper(Spliterator<T> from, ObjectMapper<T, U> mapper) {
+		this.from = notNull(from, "Original spliterator must not be null");
+		this.mapper = notNull(mapper, "Mapper must not be null");
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super U> action) {
+		notNull(action, "Action must not be null");
+		return from.tryAdvance(source -> action.accept(mapper.map(source)));
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super U> action) {
+		notNull(action, "Action must not be null");
+		from.forEachRemaining(source -> action.accept(mapper.map(source)));
+	}
+
+	@Override
+	public Spliterator<U> trySplit() {
+		Spliterator<T> prefix = from.trySplit();
+		return prefix == null ? null : new LazySpliteratorMapper<>(prefix, mapper);
+	}
+
+	@Override
+	public long estimateSize() {
+		return from.estimateSize();
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return from.getExactSizeIfKnown();
+	}
+
+	@Override
+	public int characteristics() {
+		return from.characteristics() & ~EXCLUDED_CHARACTERISTICS;
+	}
+
+	@Override
+	public Comparator<? super U> getComparator() {
+		throw new IllegalStateException();
+	}
+}
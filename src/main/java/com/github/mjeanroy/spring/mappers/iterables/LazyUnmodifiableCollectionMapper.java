@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
 
@@ -92,6 +93,12 @@ public class LazyUnmodifiableCollectionMapper<U, T> extends AbstractCollection<U
 		return new LazyIterableIterator<>(it, mapper);
 	}
 
+	@Override
+	public Spliterator<U> spliterator() {
+		log.debug("Create lazy spliterator");
+		return new LazySpliteratorMapper<>(from.spliterator(), mapper);
+	}
+
 	@Override
 	public int size() {
 		return from.size();
@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * List implementation that map elements of original list on demand: each call
+ * to {@link #get(int)} maps the element at given index.
+ *
+ * This list can be considered as a lazy list implementation since it does not map
+ * all elements at instantiation: iterating over a sub list (for example, a page of
+ * a huge list) maps only elements of this sub list.
+ *
+ * Note that elements are not stored: each access to an element maps it again.
+ * This list is an unmodifiable list (it will throw an {@link java.lang.UnsupportedOperationException}
+ * for method that will try to modify internal structure).
+ *
+ * @param <U> Type of list elements.
+ * @param <T> Type of original list elements.
+ */
+public class LazyUnmodifiableListMapper<U, T> extends AbstractList<U> implements List<U>, RandomAccess {
+
+	/**
+	 * Class logger.
+	 */
+	private static final Logger log = LoggerFactory.getLogger(LazyUnmodifiableListMapper.class);
+
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(LazyUnmodifiableListMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
+	/**
+	 * Original list, should be a random access list.
+	 */
+	private final List<T> from;
+
+	/**
+	 * Mapper used to map original elements.
+	 */
+	private final ObjectMapper<T, U> mapper;
+
+	/**
+	 * Create new lazy list.
+	 *
+	 * @param from Original list containing elements to map, should be a random access list.
+	 * @param mapper Mapper that will be used to map original objects to new objects.
+	 */
+	public LazyUnmodifiableListMapper(List<T> from, ObjectMapper<T, U> mapper) {
+		this.from = notNull(from, "Original list must not be null");
+		this.mapper = notNull(mapper, "Mapper must not be null");
+	}
+
+	@Override
+	public U get(int index) {
+		if (ELEMENTS_TRACE) {
+			elementsLog.trace("  --> Mapping element at index: {}", index);
+		}
+
+		return mapper.map(from.get(index));
+	}
+
+	/**
+	 * Iterate over original list and map each element during iteration, like a
+	 * {@link LazyIterableMapper} (a collection mapping event is emitted once iteration
+	 * is finished).
+	 *
+	 * @return Lazy iterator.
+	 */
+	@Override
+	public Iterator<U> iterator() {
+		log.debug("Create lazy iterator");
+		return new LazyIterableIterator<>(from.iterator(), mapper);
+	}
+
+	@Override
+	public int size() {
+		return from.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return from.isEmpty();
+	}
+
+	@Override
+	public Spliterator<U> spliterator() {
+		log.debug("Create lazy spliterator");
+		return new LazySpliteratorMapper<>(from.spliterator(), mapper);
+	}
+}
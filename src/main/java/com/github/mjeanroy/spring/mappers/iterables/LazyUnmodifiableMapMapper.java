@@ -0,0 +1,253 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import org.slf4j.Logger;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Map implementation that map values of original map when they are read: with {@link #get(Object)},
+ * or during iteration of entries or values. Keys are not mapped, and reading keys does not map
+ * anything: reading a few entries of a large map only maps these entries.
+ *
+ * If memoization is enabled, mapped values are stored, so that each value is mapped at most once
+ * (concurrent first reads of the same value may map it more than once, but always return the same
+ * mapped object). Otherwise, each read maps value again.
+ *
+ * Memoized values are indexed with the key semantics of original map: keys are compared with
+ * {@link Object#equals(Object)}, as required by {@link Map} contract, except if original map is an
+ * {@link IdentityHashMap} or a {@link SortedMap} (compared with its comparator): values are then memoized
+ * per key instance of original map. Other maps that do not use {@link Object#equals(Object)} (for example,
+ * an unmodifiable view of an {@link IdentityHashMap}) must not be used with memoization.
+ *
+ * Note that this map is an unmodifiable map (it will throw an {@link java.lang.UnsupportedOperationException}
+ * for method that will try to modify internal structure). Original map must not be modified either.
+ *
+ * @param <K> Type of keys.
+ * @param <U> Type of map values.
+ * @param <T> Type of original map values.
+ */
+public class LazyUnmodifiableMapMapper<K, U, T> extends AbstractMap<K, U> implements Map<K, U> {
+
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(LazyUnmodifiableMapMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
+	/**
+	 * Marker used for {@code null} keys and {@code null} values in memoized values,
+	 * since concurrent maps do not support {@code null}.
+	 */
+	private static final Object NULL = new Object();
+
+	/**
+	 * Original map.
+	 */
+	private final Map<K, T> from;
+
+	/**
+	 * Mapper used to map values.
+	 */
+	private final ObjectMapper<T, U> mapper;
+
+	/**
+	 * Mapped values, indexed by key, {@code null} if memoization is disabled.
+	 */
+	private final Map<Object, Object> values;
+
+	/**
+	 * Entry set view, created on first access.
+	 */
+	private Set<Map.Entry<K, U>> entrySet;
+
+	/**
+	 * Create new map, without memoization.
+	 *
+	 * @param from Original map.
+	 * @param mapper Mapper used to map values.
+	 */
+	public LazyUnmodifiableMapMapper(Map<K, T> from, ObjectMapper<T, U> mapper) {
+		this(from, mapper, false);
+	}
+
+	/**
+	 * Create new map.
+	 *
+	 * @param from Original map.
+	 * @param mapper Mapper used to map values.
+	 * @param memoize Flag set to store mapped values.
+	 */
+	public LazyUnmodifiableMapMapper(Map<K, T> from, ObjectMapper<T, U> mapper, boolean memoize) {
+		this.from = notNull(from, "Original map must not be null");
+		this.mapper = notNull(mapper, "Mapper must not be null");
+		this.values = memoize ? createValues(from) : null;
+	}
+
+	/**
+	 * Create map of memoized values, using key semantics of original map.
+	 *
+	 * @param from Original map.
+	 * @return Map of memoized values.
+	 */
+	private static Map<Object, Object> createValues(Map<?, ?> from) {
+		if (from instanceof IdentityHashMap || from instanceof SortedMap) {
+			// Keys are not compared with equals: values are memoized per key instance of original map.
+			return Collections.synchronizedMap(new IdentityHashMap<>());
+		}
+
+		return new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public U get(Object key) {
+		T source = from.get(key);
+		if (source == null && !from.containsKey(key)) {
+			return null;
+		}
+
+		return mapValue(storedKey(key), source);
+	}
+
+	/**
+	 * Get key instance of original map matching given key: keys of a {@link SortedMap} are
+	 * compared with its comparator, so given key may not be the instance stored in original map.
+	 *
+	 * @param key Key, contained in original map.
+	 * @return Key instance of original map.
+	 */
+	@SuppressWarnings("unchecked")
+	private Object storedKey(Object key) {
+		if (values != null && from instanceof SortedMap) {
+			return ((SortedMap<Object, T>) from).tailMap(key).firstKey();
+		}
+
+		return key;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return from.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return from.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return from.isEmpty();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return Collections.unmodifiableSet(from.keySet());
+	}
+
+	@Override
+	public Set<Map.Entry<K, U>> entrySet() {
+		Set<Map.Entry<K, U>> entries = entrySet;
+		if (entries == null) {
+			entries = new EntrySet();
+			entrySet = entries;
+		}
+
+		return entries;
+	}
+
+	@SuppressWarnings("unchecked")
+	private U mapValue(Object key, T source) {
+		if (ELEMENTS_TRACE) {
+			elementsLog.trace("  --> Mapping value of key: {}", key);
+		}
+
+		if (values == null) {
+			return mapper.map(source);
+		}
+
+		Object k = key == null ? NULL : key;
+		Object value = values.get(k);
+		if (value == null) {
+			U mapped = mapper.map(source);
+			Object newValue = mapped == null ? NULL : mapped;
+			Object current = values.putIfAbsent(k, newValue);
+			value = current == null ? newValue : current;
+		}
+
+		return value == NULL ? null : (U) value;
+	}
+
+	/**
+	 * Entries of this map: entries of original map, with mapped values.
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<K, U>> {
+
+		@Override
+		public Iterator<Map.Entry<K, U>> iterator() {
+			final Iterator<Map.Entry<K, T>> it = from.entrySet().iterator();
+			return new Iterator<Map.Entry<K, U>>() {
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public Map.Entry<K, U> next() {
+					Map.Entry<K, T> entry = it.next();
+					K key = entry.getKey();
+					return new SimpleImmutableEntry<>(key, mapValue(key, entry.getValue()));
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return from.size();
+		}
+	}
+}
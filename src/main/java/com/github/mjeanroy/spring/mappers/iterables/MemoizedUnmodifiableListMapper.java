@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import org.slf4j.Logger;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.github.mjeanroy.spring.mappers.commons.Loggers.elementsLogger;
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * List implementation that map elements of original list on first access, and
+ * store mapped elements: each element is mapped at most once, whatever the number
+ * of traversals or {@link #get(int)} calls.
+ *
+ * Mapped elements are stored in an array of the same size as original list: a slot is set
+ * with a compare-and-set operation, so that concurrent first accesses of the same element
+ * always return the same mapped object (element may be mapped more than once in this case,
+ * but only one result is kept).
+ *
+ * Note that this list is an unmodifiable list (it will throw an {@link java.lang.UnsupportedOperationException}
+ * for method that will try to modify internal structure). Original list must not be modified either.
+ *
+ * @param <U> Type of list elements.
+ * @param <T> Type of original list elements.
+ */
+public class MemoizedUnmodifiableListMapper<U, T> extends AbstractList<U> implements List<U>, RandomAccess {
+
+	/**
+	 * Logger of per element operations.
+	 */
+	private static final Logger elementsLog = elementsLogger(MemoizedUnmodifiableListMapper.class);
+
+	/**
+	 * Per element trace level, read once at class initialization.
+	 */
+	private static final boolean ELEMENTS_TRACE = elementsLog.isTraceEnabled();
+
+	/**
+	 * Marker stored in a slot when mapped element is {@code null}: a {@code null} slot
+	 * means that element has not been mapped yet.
+	 */
+	private static final Object NULL = new Object();
+
+	/**
+	 * Original list.
+	 */
+	private final List<T> from;
+
+	/**
+	 * Mapper used to map original elements.
+	 */
+	private final ObjectMapper<T, U> mapper;
+
+	/**
+	 * Mapped elements, {@code null} if element has not been mapped yet.
+	 */
+	private final AtomicReferenceArray<Object> slots;
+
+	/**
+	 * Create new memoized list.
+	 *
+	 * @param from Original list containing elements to map, should be a random access list.
+	 * @param mapper Mapper that will be used to map original objects to new objects.
+	 */
+	public MemoizedUnmodifiableListMapper(List<T> from, ObjectMapper<T, U> mapper) {
+		this.from = notNull(from, "Original list must not be null");
+		this.mapper = notNull(mapper, "Mapper must not be null");
+		this.slots = new AtomicReferenceArray<>(from.size());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public U get(int index) {
+		Object value = slots.get(index);
+		if (value == null) {
+			if (ELEMENTS_TRACE) {
+				elementsLog.trace("  --> Mapping element at index: {}", index);
+			}
+
+			U mapped = mapper.map(from.get(index));
+			Object newValue = mapped == null ? NULL : mapped;
+			value = slots.compareAndSet(index, null, newValue) ? newValue : slots.get(index);
+		}
+
+		return value == NULL ? null : (U) value;
+	}
+
+	@Override
+	public int size() {
+		return slots.length();
+	}
+}
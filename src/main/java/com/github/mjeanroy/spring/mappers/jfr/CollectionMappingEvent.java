@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the mapping of a collection of objects.
+ *
+ * Event is disabled by default: it must be enabled in recording settings
+ * with its name ({@code com.github.mjeanroy.spring.mappers.CollectionMapping}).
+ */
+@Name("com.github.mjeanroy.spring.mappers.CollectionMapping")
+@Label("Collection Mapping")
+@Description("Mapping of a collection of source objects to destination objects")
+@Category("Spring Mappers")
+@Enabled(false)
+@StackTrace(false)
+class CollectionMappingEvent extends Event {
+
+	@Label("Source Class")
+	Class<?> sourceClass;
+
+	@Label("Destination Class")
+	Class<?> destinationClass;
+
+	@Label("Provider")
+	@Description("Class of mapper implementation")
+	String provider;
+
+	@Label("Element Count")
+	int count;
+
+	@Label("Lazy")
+	@Description("Elements are mapped during iteration, duration includes time spent by consumer")
+	boolean lazy;
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.jfr;
+
+/**
+ * Create and commit flight recorder events.
+ *
+ * This class is the only one referencing event classes: it must not be
+ * loaded if flight recorder API is not available.
+ */
+final class JfrMappingEvents {
+
+	/**
+	 * Event instances used to check if events are enabled, without allocating
+	 * a new event each time.
+	 */
+	private static final MappingEvent MAPPING = new MappingEvent();
+	private static final CollectionMappingEvent COLLECTION_MAPPING = new CollectionMappingEvent();
+
+	private JfrMappingEvents() {
+	}
+
+	static Object beginMapping() {
+		if (!MAPPING.isEnabled()) {
+			return null;
+		}
+
+		MappingEvent event = new MappingEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitMapping(Object e, Class<?> sourceClass, Class<?> destinationClass, String provider) {
+		MappingEvent event = (MappingEvent) e;
+		event.end();
+		if (event.shouldCommit()) {
+			event.sourceClass = sourceClass;
+			event.destinationClass = destinationClass;
+			event.provider = provider;
+			event.commit();
+		}
+	}
+
+	static Object beginCollectionMapping() {
+		if (!COLLECTION_MAPPING.isEnabled()) {
+			return null;
+		}
+
+		CollectionMappingEvent event = new CollectionMappingEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitCollectionMapping(Object e, Class<?> sourceClass, Class<?> destinationClass, String provider, int count, boolean lazy) {
+		CollectionMappingEvent event = (CollectionMappingEvent) e;
+		event.end();
+		if (event.shouldCommit()) {
+			event.sourceClass = sourceClass;
+			event.destinationClass = destinationClass;
+			event.provider = provider;
+			event.count = count;
+			event.lazy = lazy;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.jfr;
+
+import com.github.mjeanroy.spring.mappers.commons.ClassUtils;
+
+/**
+ * Emit Java Flight Recorder events of mapping operations.
+ *
+ * Events are disabled by default, and must be enabled in recording settings:
+ * <ul>
+ *   <li>{@code com.github.mjeanroy.spring.mappers.Mapping}: mapping of a single object.</li>
+ *   <li>{@code com.github.mjeanroy.spring.mappers.CollectionMapping}: mapping of a collection of objects.</li>
+ * </ul>
+ *
+ * Events are emitted in two steps: {@code begin} methods return an event handle, or
+ * {@code null} if event is disabled (or if flight recorder is not available), and this
+ * handle must be given to {@code commit} methods once mapping is done.
+ * When event is disabled, no event is allocated.
+ *
+ * Handles are typed as {@link Object}, so that callers do not depend on flight
+ * recorder API, which is not available on all runtimes.
+ */
+public final class MappingEvents {
+
+	/**
+	 * Flag set if flight recorder API is available.
+	 */
+	private static final boolean AVAILABLE = ClassUtils.isPresent("jdk.jfr.Event");
+
+	// Ensure non instantiation
+	private MappingEvents() {
+	}
+
+	/**
+	 * Start mapping event of a single object.
+	 *
+	 * @return Event handle, {@code null} if event is disabled.
+	 */
+	public static Object beginMapping() {
+		return AVAILABLE ? JfrMappingEvents.beginMapping() : null;
+	}
+
+	/**
+	 * Commit mapping event of a single object.
+	 *
+	 * @param event Event handle, returned by {@link #beginMapping()}.
+	 * @param sourceClass Source class.
+	 * @param destinationClass Destination class.
+	 * @param provider Class of mapper implementation.
+	 */
+	public static void commitMapping(Object event, Class<?> sourceClass, Class<?> destinationClass, Class<?> provider) {
+		if (event != null) {
+			JfrMappingEvents.commitMapping(event, sourceClass, destinationClass, name(provider));
+		}
+	}
+
+	/**
+	 * Start mapping event of a collection of objects.
+	 *
+	 * @return Event handle, {@code null} if event is disabled.
+	 */
+	public static Object beginCollectionMapping() {
+		return AVAILABLE ? JfrMappingEvents.beginCollectionMapping() : null;
+	}
+
+	/**
+	 * Commit mapping event of a collection of objects.
+	 *
+	 * @param event Event handle, returned by {@link #beginCollectionMapping()}.
+	 * @param sourceClass Source class.
+	 * @param destinationClass Destination class.
+	 * @param provider Class of mapper implementation.
+	 * @param count Number of mapped objects.
+	 * @param lazy Flag set if objects have been mapped during iteration.
+	 */
+	public static void commitCollectionMapping(Object event, Class<?> sourceClass, Class<?> destinationClass, Class<?> provider, int count, boolean lazy) {
+		if (event != null) {
+			JfrMappingEvents.commitCollectionMapping(event, sourceClass, destinationClass, name(provider), count, lazy);
+		}
+	}
+
+	private static String name(Class<?> klass) {
+		return klass == null ? null : klass.getName();
+	}
+}
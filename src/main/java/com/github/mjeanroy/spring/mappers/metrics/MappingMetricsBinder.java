@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Publish timers of a {@link MappingMetricsRegistry} to a Micrometer registry.
+ *
+ * Each timer is published as a function timer ({@code spring.mappers.mapping}) and
+ * a time gauge of maximum mapping time ({@code spring.mappers.mapping.max}), tagged
+ * with name of source and destination classes.
+ * Timers created after binding are published as soon as they are created.
+ *
+ * Micrometer must be available on classpath to use this class.
+ */
+public class MappingMetricsBinder implements MeterBinder {
+
+	/**
+	 * Name of mapping timers.
+	 */
+	public static final String TIMER_NAME = "spring.mappers.mapping";
+
+	/**
+	 * Name of maximum mapping time gauges.
+	 */
+	public static final String MAX_NAME = TIMER_NAME + ".max";
+
+	/**
+	 * Registry of mapping timers.
+	 */
+	private final MappingMetricsRegistry registry;
+
+	/**
+	 * Meter registries already bound.
+	 */
+	private final Set<MeterRegistry> meterRegistries;
+
+	/**
+	 * Create binder.
+	 *
+	 * @param registry Registry of mapping timers.
+	 */
+	public MappingMetricsBinder(MappingMetricsRegistry registry) {
+		this.registry = notNull(registry, "Registry must not be null");
+		this.meterRegistries = Collections.newSetFromMap(new IdentityHashMap<MeterRegistry, Boolean>());
+	}
+
+	/**
+	 * Publish timers to given meter registry.
+	 * Binding the same meter registry several times has no effect.
+	 *
+	 * @param meterRegistry Meter registry.
+	 */
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		synchronized (meterRegistries) {
+			if (!meterRegistries.add(meterRegistry)) {
+				return;
+			}
+		}
+
+		registry.addListener(timer -> bind(meterRegistry, timer));
+	}
+
+	private static void bind(MeterRegistry meterRegistry, MappingTimer timer) {
+		String source = timer.getTypePair().getSource().getName();
+		String destination = timer.getTypePair().getDestination().getName();
+
+		FunctionTimer.builder(TIMER_NAME, timer, MappingTimer::getCount, t -> t.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+				.description("Mapping of source objects to destination objects")
+				.tags("source", source, "destination", destination)
+				.register(meterRegistry);
+
+		TimeGauge.builder(MAX_NAME, timer, TimeUnit.NANOSECONDS, t -> t.getMax(TimeUnit.NANOSECONDS))
+				.description("Maximum mapping time of one object")
+				.tags("source", source, "destination", destination)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Registry of mapping timers: a timer is created, once, for each pair of
+ * source and destination classes.
+ */
+public class MappingMetricsRegistry {
+
+	/**
+	 * Timers, indexed by pair of classes.
+	 */
+	private final ConcurrentMap<TypePair, MappingTimer> timers;
+
+	/**
+	 * Timers, indexed by source class and then by destination class: used to look up
+	 * timers without allocating a pair of classes on each mapping.
+	 */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MappingTimer>> timersBySource;
+
+	/**
+	 * Listeners notified when a timer is created.
+	 */
+	private final Collection<Listener> listeners;
+
+	/**
+	 * Create empty registry.
+	 */
+	public MappingMetricsRegistry() {
+		this.timers = new ConcurrentHashMap<>();
+		this.timersBySource = new ConcurrentHashMap<>();
+		this.listeners = new CopyOnWriteArrayList<>();
+	}
+
+	/**
+	 * Get timer of given pair of classes, create it if it does not exist yet.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Timer.
+	 */
+	public MappingTimer timer(Class<?> source, Class<?> destination) {
+		ConcurrentMap<Class<?>, MappingTimer> byDestination = timersBySource.get(source);
+		if (byDestination != null) {
+			MappingTimer timer = byDestination.get(destination);
+			if (timer != null) {
+				return timer;
+			}
+		}
+
+		return createTimer(source, destination);
+	}
+
+	private MappingTimer createTimer(Class<?> source, Class<?> destination) {
+		TypePair key = TypePair.of(source, destination);
+		MappingTimer newTimer = new MappingTimer(key);
+		MappingTimer current = timers.putIfAbsent(key, newTimer);
+		MappingTimer timer = current == null ? newTimer : current;
+
+		ConcurrentMap<Class<?>, MappingTimer> byDestination = timersBySource.get(source);
+		if (byDestination == null) {
+			ConcurrentMap<Class<?>, MappingTimer> newByDestination = new ConcurrentHashMap<>();
+			byDestination = timersBySource.putIfAbsent(source, newByDestination);
+			if (byDestination == null) {
+				byDestination = newByDestination;
+			}
+		}
+
+		byDestination.putIfAbsent(destination, timer);
+
+		if (current == null) {
+			for (Listener listener : listeners) {
+				listener.onCreate(newTimer);
+			}
+		}
+
+		return timer;
+	}
+
+	/**
+	 * Get timer of given pair of classes.
+	 *
+	 * @param source Source class.
+	 * @param destination Destination class.
+	 * @return Timer, {@code null} if nothing has been mapped from {@code source} to {@code destination}.
+	 */
+	public MappingTimer getTimer(Class<?> source, Class<?> destination) {
+		return timers.get(TypePair.of(source, destination));
+	}
+
+	/**
+	 * Get all timers.
+	 *
+	 * @return Timers (unmodifiable view).
+	 */
+	public Collection<MappingTimer> getTimers() {
+		return Collections.unmodifiableCollection(timers.values());
+	}
+
+	/**
+	 * Register listener: listener is notified of existing timers, and then
+	 * of each new timer.
+	 *
+	 * @param listener Listener.
+	 */
+	public void addListener(Listener listener) {
+		notNull(listener, "Listener must not be null");
+		listeners.add(listener);
+		for (MappingTimer timer : timers.values()) {
+			listener.onCreate(timer);
+		}
+	}
+
+	/**
+	 * Listener of timer creation.
+	 */
+	public interface Listener {
+
+		/**
+		 * Notify a timer.
+		 * A listener may be notified more than once with the same timer if it is added
+		 * while timer is being created.
+		 *
+		 * @param timer Created timer.
+		 */
+		void onCreate(MappingTimer timer);
+	}
+}
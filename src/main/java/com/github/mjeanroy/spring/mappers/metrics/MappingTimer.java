@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Timer of mapping operations of a pair of source and destination classes.
+ *
+ * This timer records number of mapped objects, total and maximum mapping time
+ * and a latency histogram. Counters are striped ({@link LongAdder}), so that
+ * concurrent recording does not contend on a single value.
+ *
+ * Histogram uses {@link #BUCKETS} buckets with exponential bounds: bucket {@code i}
+ * counts mappings that took at most {@code 2^i} nanoseconds (and more than
+ * {@code 2^(i-1)} nanoseconds), last bucket counts all slower mappings.
+ */
+public final class MappingTimer {
+
+	/**
+	 * Number of histogram buckets: bound of last but one bucket is about 137 seconds.
+	 */
+	public static final int BUCKETS = 39;
+
+	/**
+	 * Pair of classes of this timer.
+	 */
+	private final TypePair typePair;
+
+	/**
+	 * Number of mapped objects.
+	 */
+	private final LongAdder count;
+
+	/**
+	 * Total mapping time, in nanoseconds.
+	 */
+	private final LongAdder totalTime;
+
+	/**
+	 * Maximum mapping time, in nanoseconds.
+	 */
+	private final LongAccumulator max;
+
+	/**
+	 * Histogram buckets.
+	 */
+	private final LongAdder[] buckets;
+
+	/**
+	 * Create timer.
+	 *
+	 * @param typePair Pair of classes.
+	 */
+	MappingTimer(TypePair typePair) {
+		this.typePair = notNull(typePair, "Type pair must not be null");
+		this.count = new LongAdder();
+		this.totalTime = new LongAdder();
+		this.max = new LongAccumulator(Math::max, 0);
+		this.buckets = new LongAdder[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Record mapping of one object.
+	 *
+	 * @param nanos Mapping time, in nanoseconds.
+	 */
+	public void record(long nanos) {
+		record(nanos, 1);
+	}
+
+	/**
+	 * Record mapping of several objects at once (a batch operation).
+	 * Since time of each mapping is not known, the average time is recorded
+	 * for each object.
+	 *
+	 * @param nanos Total mapping time, in nanoseconds.
+	 * @param objects Number of mapped objects.
+	 */
+	public void record(long nanos, int objects) {
+		if (objects <= 0) {
+			return;
+		}
+
+		long duration = Math.max(nanos, 0);
+		long average = duration / objects;
+
+		count.add(objects);
+		totalTime.add(duration);
+		max.accumulate(average);
+		buckets[bucket(average)].add(objects);
+	}
+
+	/**
+	 * Get pair of source and destination classes of this timer.
+	 *
+	 * @return Type pair.
+	 */
+	public TypePair getTypePair() {
+		return typePair;
+	}
+
+	/**
+	 * Get number of mapped objects.
+	 *
+	 * @return Number of mapped objects.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Get total mapping time.
+	 *
+	 * @param unit Time unit.
+	 * @return Total time.
+	 */
+	public double getTotalTime(TimeUnit unit) {
+		return toUnit(totalTime.sum(), unit);
+	}
+
+	/**
+	 * Get maximum mapping time of one object.
+	 *
+	 * @param unit Time unit.
+	 * @return Maximum time.
+	 */
+	public double getMax(TimeUnit unit) {
+		return toUnit(max.get(), unit);
+	}
+
+	/**
+	 * Get mean mapping time of one object.
+	 *
+	 * @param unit Time unit.
+	 * @return Mean time, zero if nothing has been recorded.
+	 */
+	public double getMean(TimeUnit unit) {
+		long n = count.sum();
+		return n == 0 ? 0 : getTotalTime(unit) / n;
+	}
+
+	/**
+	 * Get snapshot of histogram: value at index {@code i} is the number of mapped objects
+	 * in bucket {@code i} (see {@link #getBucketBound(int)}).
+	 *
+	 * @return Histogram counts.
+	 */
+	public long[] getHistogram() {
+		long[] histogram = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram[i] = buckets[i].sum();
+		}
+
+		return histogram;
+	}
+
+	/**
+	 * Get upper bound (inclusive) of given histogram bucket, in nanoseconds.
+	 * Last bucket does not have any upper bound, {@link Long#MAX_VALUE} is returned.
+	 *
+	 * @param bucket Bucket index.
+	 * @return Upper bound, in nanoseconds.
+	 */
+	public static long getBucketBound(int bucket) {
+		return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+	}
+
+	/**
+	 * Get histogram bucket of given duration.
+	 *
+	 * @param nanos Duration, in nanoseconds.
+	 * @return Bucket index.
+	 */
+	static int bucket(long nanos) {
+		if (nanos <= 1) {
+			return 0;
+		}
+
+		return Math.min(64 - Long.numberOfLeadingZeros(nanos - 1), BUCKETS - 1);
+	}
+
+	private static double toUnit(long nanos, TimeUnit unit) {
+		return (double) nanos / unit.toNanos(1);
+	}
+
+	@Override
+	public String toString() {
+		return "MappingTimer{" + typePair + ", count=" + getCount() + "}";
+	}
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.github.mjeanroy.spring.mappers.commons.PreConditions.notNull;
+
+/**
+ * Mapper decorator that records mapping time of each pair of
+ * source and destination classes in a {@link MappingMetricsRegistry}.
+ *
+ * Destination class is the class of the mapped object: mappings returning
+ * {@code null} are not recorded.
+ */
+public class MetricsMapper implements Mapper {
+
+	/**
+	 * Decorated mapper.
+	 */
+	private final Mapper mapper;
+
+	/**
+	 * Registry of timers.
+	 */
+	private final MappingMetricsRegistry registry;
+
+	/**
+	 * Create mapper.
+	 *
+	 * @param mapper Decorated mapper.
+	 * @param registry Registry of timers.
+	 */
+	public MetricsMapper(Mapper mapper, MappingMetricsRegistry registry) {
+		this.mapper = notNull(mapper, "Mapper must not be null");
+		this.registry = notNull(registry, "Registry must not be null");
+	}
+
+	@Override
+	public <T, U> U map(T source, ObjectFactory<U, T> factory) {
+		long start = System.nanoTime();
+		U destination = mapper.map(source, factory);
+		long nanos = System.nanoTime() - start;
+
+		if (source != null && destination != null) {
+			registry.timer(source.getClass(), destination.getClass()).record(nanos);
+		}
+
+		return destination;
+	}
+
+	@Override
+	public <T, U> void map(T source, U destination) {
+		long start = System.nanoTime();
+		mapper.map(source, destination);
+		long nanos = System.nanoTime() - start;
+
+		if (source != null && destination != null) {
+			registry.timer(source.getClass(), destination.getClass()).record(nanos);
+		}
+	}
+
+	@Override
+	public <T, U> void mapAll(List<T> sources, ObjectFactory<U, T> factory, List<U> destinations) {
+		int offset = destinations.size();
+		long start = System.nanoTime();
+		mapper.mapAll(sources, factory, destinations);
+		long nanos = System.nanoTime() - start;
+
+		// Time of each mapping is not known: batch time is shared between mapped objects
+		// (null mappings are ignored), and recorded for each run of objects with the same pair
+		// of classes. Lists are iterated once, since they may not be random access lists.
+		List<Run> runs = new ArrayList<>();
+		Run run = null;
+		int mapped = 0;
+
+		Iterator<T> sourceIterator = sources.iterator();
+		Iterator<U> destinationIterator = destinations.listIterator(offset);
+		while (sourceIterator.hasNext() && destinationIterator.hasNext()) {
+			T source = sourceIterator.next();
+			U destination = destinationIterator.next();
+			if (source == null || destination == null) {
+				continue;
+			}
+
+			if (run == null || source.getClass() != run.sourceClass || destination.getClass() != run.destinationClass) {
+				run = new Run(source.getClass(), destination.getClass());
+				runs.add(run);
+			}
+
+			run.count++;
+			mapped++;
+		}
+
+		for (Run r : runs) {
+			registry.timer(r.sourceClass, r.destinationClass).record(nanos * r.count / mapped, r.count);
+		}
+	}
+
+	@Override
+	public Object getDelegate() {
+		return mapper.getDelegate();
+	}
+
+	/**
+	 * Get decorated mapper.
+	 *
+	 * @return Decorated mapper.
+	 */
+	public Mapper getMapper() {
+		return mapper;
+	}
+
+	/**
+	 * Consecutive objects mapped with the same pair of classes.
+	 */
+	private static class Run {
+		private final Class<?> sourceClass;
+		private final Class<?> destinationClass;
+		private int count;
+
+		private Run(Class<?> sourceClass, Class<?> destinationClass) {
+			this.sourceClass = sourceClass;
+			this.destinationClass = destinationClass;
+		}
+	}
+}
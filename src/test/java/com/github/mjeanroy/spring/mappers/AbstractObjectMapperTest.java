@@ -35,6 +35,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.reflect.FieldUtils.readField;
@@ -125,6 +127,19 @@ public abstract class AbstractObjectMapperTest {
 		assertThat(fooDto2.getName()).isEqualTo(foo2.getName());
 	}
 
+	@Test
+	public void it_should_transform_source_stream_to_destination_stream() throws Exception {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(2L, "foo2");
+		FooMapper fooMapper = fooMapper();
+
+		List<FooDto> fooDtos = fooMapper.mapStream(Stream.of(foo1, foo2)).collect(Collectors.<FooDto>toList());
+
+		assertThat(fooDtos).hasSize(2);
+		assertThat(fooDtos.get(0).getId()).isEqualTo(foo1.getId());
+		assertThat(fooDtos.get(1).getId()).isEqualTo(foo2.getId());
+	}
+
 	@Test
 	public void it_should_transform_source_map_to_destination_map() throws Exception {
 		Foo foo1 = new Foo(1L, "foo1");
@@ -0,0 +1,181 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.asyncObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.inMemoryObjectMapper;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class AsyncObjectMapperTest {
+
+	private ExecutorService executor;
+
+	private ObjectMapper<Foo, FooDto> delegate;
+
+	private AsyncObjectMapper<Foo, FooDto> mapper;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(2);
+		delegate = spy(inMemoryObjectMapper(new SpringMapper(), Foo.class, FooDto.class));
+		mapper = asyncObjectMapper(delegate, executor);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void it_should_map_source_asynchronously() throws Exception {
+		Foo foo = new Foo(1L, "foo");
+
+		FooDto dto = mapper.mapAsync(foo).get(5, TimeUnit.SECONDS);
+
+		assertThat(dto.getId()).isEqualTo(1L);
+		assertThat(dto.getName()).isEqualTo("foo");
+		verify(delegate).map(same(foo));
+	}
+
+	@Test
+	public void it_should_map_null_to_null_asynchronously() throws Exception {
+		assertThat(mapper.mapAsync(null).get(5, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void it_should_map_all_sources_asynchronously_and_preserve_order() throws Exception {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(2L, "foo2");
+		Foo foo3 = new Foo(3L, "foo3");
+
+		List<FooDto> dtos = mapper.mapAllAsync(asList(foo1, null, foo2, foo3)).get(5, TimeUnit.SECONDS);
+
+		assertThat(dtos).hasSize(4);
+		assertThat(dtos.get(0).getId()).isEqualTo(1L);
+		assertThat(dtos.get(1)).isNull();
+		assertThat(dtos.get(2).getId()).isEqualTo(2L);
+		assertThat(dtos.get(3).getId()).isEqualTo(3L);
+		verify(delegate).map(same(foo1));
+		verify(delegate).map(same(foo2));
+		verify(delegate).map(same(foo3));
+	}
+
+	@Test
+	public void it_should_overlap_blocking_mappings() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(2);
+		ObjectMapper<Foo, FooDto> blocking = mock(ObjectMapper.class);
+		when(blocking.map(any(Foo.class))).thenAnswer(invocation -> {
+			// Each mapping waits for the other one: it completes only if both run at the same time.
+			latch.countDown();
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			return new FooDto();
+		});
+
+		AsyncObjectMapper<Foo, FooDto> asyncMapper = asyncObjectMapper(blocking, executor);
+		List<FooDto> dtos = asyncMapper.mapAllAsync(asList(new Foo(1L, "foo1"), new Foo(2L, "foo2"))).get(10, TimeUnit.SECONDS);
+
+		assertThat(dtos).hasSize(2);
+	}
+
+	@Test
+	public void it_should_complete_exceptionally_if_mapping_fails() throws Exception {
+		IllegalStateException error = new IllegalStateException("Cannot map");
+		Foo foo = new Foo(2L, "foo2");
+		doThrow(error).when(delegate).map(same(foo));
+
+		CompletableFuture<List<FooDto>> future = mapper.mapAllAsync(asList(new Foo(1L, "foo1"), foo));
+
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("Mapping should fail");
+		}
+		catch (ExecutionException ex) {
+			assertThat(ex.getCause()).isSameAs(error);
+		}
+	}
+
+	@Test
+	public void it_should_delegate_synchronous_mapping() {
+		Foo foo = new Foo(1L, "foo");
+
+		FooDto dto = mapper.map(foo);
+
+		assertThat(dto.getId()).isEqualTo(1L);
+		verify(delegate).map(same(foo));
+	}
+
+	@Test
+	public void it_should_use_default_executor() throws Exception {
+		AsyncObjectMapper<Foo, FooDto> asyncMapper = asyncObjectMapper(delegate);
+		Executor defaultExecutor = asyncMapper.getExecutor();
+
+		assertThat(defaultExecutor).isSameAs(AsyncObjectMapper.defaultExecutor());
+		assertThat(defaultExecutor).isNotSameAs(ForkJoinPool.commonPool());
+		if (isVirtualThreadPerTaskExecutorAvailable()) {
+			assertThat(defaultExecutor).isNotInstanceOf(ThreadPoolExecutor.class);
+		}
+		else {
+			assertThat(defaultExecutor).isInstanceOf(ThreadPoolExecutor.class);
+			assertThat(((ThreadPoolExecutor) defaultExecutor).getMaximumPoolSize()).isEqualTo(AsyncObjectMapper.DEFAULT_POOL_SIZE);
+		}
+
+		Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, defaultExecutor).get(5, TimeUnit.SECONDS);
+		assertThat(thread.isDaemon()).isTrue();
+	}
+
+	private static boolean isVirtualThreadPerTaskExecutorAvailable() {
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return true;
+		}
+		catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+}
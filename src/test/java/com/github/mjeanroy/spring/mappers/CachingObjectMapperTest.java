@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.cachingObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.lazyObjectMapper;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+public class CachingObjectMapperTest {
+
+	private ObjectMapper<Foo, FooDto> delegate;
+
+	@Before
+	public void setUp() {
+		delegate = spy(lazyObjectMapper(new SpringMapper(), Foo.class, FooDto.class));
+	}
+
+	@Test
+	public void it_should_map_null_to_null() {
+		CachingObjectMapper<Foo, FooDto> mapper = cachingObjectMapper(delegate, 10);
+		assertThat(mapper.map((Foo) null)).isNull();
+		verify(delegate, never()).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_cache_destination_by_source_identity() {
+		CachingObjectMapper<Foo, FooDto> mapper = cachingObjectMapper(delegate, 10);
+		Foo foo = new Foo(1L, "foo");
+
+		FooDto dto1 = mapper.map(foo);
+		FooDto dto2 = mapper.map(foo);
+		FooDto dto3 = mapper.map(new Foo(1L, "foo"));
+
+		assertThat(dto1).isSameAs(dto2).isNotSameAs(dto3);
+		assertThat(dto1.getId()).isEqualTo(1L);
+		verify(delegate, times(1)).map(same(foo));
+		assertThat(mapper.getHitCount()).isEqualTo(1L);
+		assertThat(mapper.getMissCount()).isEqualTo(2L);
+		assertThat(mapper.getCacheSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void it_should_cache_destination_by_extracted_key() {
+		CachingObjectMapper<Foo, FooDto> mapper = cachingObjectMapper(delegate, 10, new Function<Foo, Long>() {
+			@Override
+			public Long apply(Foo foo) {
+				return foo.getId();
+			}
+		});
+
+		FooDto dto1 = mapper.map(new Foo(1L, "foo"));
+		FooDto dto2 = mapper.map(new Foo(1L, "foo"));
+		FooDto dto3 = mapper.map(new Foo(null, "bar"));
+		FooDto dto4 = mapper.map(new Foo(null, "bar"));
+
+		assertThat(dto1).isSameAs(dto2);
+		assertThat(dto3).isNotSameAs(dto4);
+		assertThat(mapper.getHitCount()).isEqualTo(1L);
+		assertThat(mapper.getCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void it_should_evict_destinations() {
+		CachingObjectMapper<Foo, FooDto> mapper = cachingObjectMapper(delegate, 2);
+		for (long i = 0; i < 5; i++) {
+			mapper.map(new Foo(i, "foo" + i));
+		}
+
+		assertThat(mapper.getCacheSize()).isEqualTo(2);
+		assertThat(mapper.getEvictionCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void it_should_map_iterables_with_cache() {
+		CachingObjectMapper<Foo, FooDto> mapper = cachingObjectMapper(delegate, 10);
+		Foo foo = new Foo(1L, "foo");
+
+		List<FooDto> results = (List<FooDto>) mapper.map(asList(foo, foo, null));
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0)).isSameAs(results.get(1));
+		assertThat(results.get(2)).isNull();
+		verify(delegate, times(1)).map(same(foo));
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooCompiledMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooCompiledMapper_CompiledMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.apache.commons.lang3.reflect.FieldUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class CompiledObjectMapperTest extends AbstractObjectMapperTest {
+
+	private FooMapper fooMapper;
+
+	private Mapper mapper;
+
+	@Before
+	public void setUp() {
+		mapper = mock(Mapper.class);
+		fooMapper = new FooCompiledMapper(mapper);
+	}
+
+	@Override
+	protected FooMapper fooMapper() {
+		return fooMapper;
+	}
+
+	@Test
+	public void it_should_use_compiled_mapper() throws Exception {
+		assertThat(readField(fooMapper, "mapper", true))
+				.isNotNull()
+				.isExactlyInstanceOf(FooCompiledMapper_CompiledMapper.class);
+	}
+
+	@Override
+	protected void checkBeforeIteration(Iterable<FooDto> fooDtos, List<Foo> foos) {
+		verifyZeroInteractions(mapper);
+	}
+
+	@Override
+	protected void checkAfterIteration(List<FooDto> fooDtos, List<Foo> foos) {
+		verifyZeroInteractions(mapper);
+	}
+}
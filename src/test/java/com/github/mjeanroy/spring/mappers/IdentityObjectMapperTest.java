@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.identityObjectMapper;
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.lazyObjectMapper;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+public class IdentityObjectMapperTest {
+
+	private ObjectMapper<Foo, FooDto> delegate;
+
+	private ObjectMapper<Foo, FooDto> mapper;
+
+	@Before
+	public void setUp() {
+		delegate = spy(lazyObjectMapper(new SpringMapper(), Foo.class, FooDto.class));
+		mapper = identityObjectMapper(delegate);
+	}
+
+	@Test
+	public void it_should_map_null_to_null() {
+		assertThat(mapper.map((Foo) null)).isNull();
+	}
+
+	@Test
+	public void it_should_map_repeated_source_once_in_iterable() {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(2L, "foo2");
+		List<Foo> foos = asList(foo1, foo2, foo1, null, foo1);
+
+		List<FooDto> results = (List<FooDto>) mapper.map(foos);
+
+		assertThat(results).hasSize(5);
+		assertThat(results.get(0).getId()).isEqualTo(1L);
+		assertThat(results.get(1).getId()).isEqualTo(2L);
+		assertThat(results.get(2)).isSameAs(results.get(0));
+		assertThat(results.get(3)).isNull();
+		assertThat(results.get(4)).isSameAs(results.get(0));
+
+		verify(delegate).map(same(foo1));
+		verify(delegate).map(same(foo2));
+		verify(delegate, times(2)).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_map_equal_sources_separately() {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(1L, "foo1");
+
+		List<FooDto> results = (List<FooDto>) mapper.map(asList(foo1, foo2));
+
+		assertThat(results.get(0)).isNotSameAs(results.get(1));
+	}
+
+	@Test
+	public void it_should_map_iterable_that_is_not_a_collection() {
+		final Foo foo = new Foo(1L, "foo");
+		final List<Foo> foos = asList(foo, foo);
+
+		Iterable<FooDto> results = mapper.map(new Iterable<Foo>() {
+			@Override
+			public Iterator<Foo> iterator() {
+				return foos.iterator();
+			}
+		});
+
+		List<FooDto> dtos = new ArrayList<>((List<FooDto>) results);
+		assertThat(dtos).hasSize(2);
+		assertThat(dtos.get(0)).isSameAs(dtos.get(1));
+	}
+
+	@Test
+	public void it_should_not_share_cache_between_calls() {
+		Foo foo = new Foo(1L, "foo");
+
+		List<FooDto> r1 = (List<FooDto>) mapper.map(asList(foo));
+		List<FooDto> r2 = (List<FooDto>) mapper.map(asList(foo));
+
+		assertThat(r1.get(0)).isNotSameAs(r2.get(0));
+	}
+
+	@Test
+	public void it_should_map_repeated_source_once_in_map() {
+		Foo foo = new Foo(1L, "foo");
+		Map<String, Foo> sources = new LinkedHashMap<>();
+		sources.put("a", foo);
+		sources.put("b", foo);
+
+		Map<String, FooDto> results = mapper.map(sources);
+
+		assertThat(results).hasSize(2).containsKeys("a", "b");
+		assertThat(results.get("a")).isSameAs(results.get("b"));
+		verify(delegate, times(1)).map(any(Foo.class));
+	}
+}
@@ -41,6 +41,7 @@ import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.reflect.FieldUtils.readField;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
 import static org.mockito.Mockito.*;
 
 public class InMemoryObjectMapperTest  extends AbstractObjectMapperTest {
@@ -170,4 +171,42 @@ public class InMemoryObjectMapperTest  extends AbstractObjectMapperTest {
 
 		assertThat(results).isInstanceOf(ArrayList.class);
 	}
+
+	@Test
+	public void it_should_use_custom_do_map_for_lists() {
+		AbstractInMemoryObjectMapper<Foo, FooDto> objectMapper = new AbstractInMemoryObjectMapper<Foo, FooDto>(mapper, Foo.class, FooDto.class) {
+			@Override
+			protected FooDto doMap(Foo source) {
+				FooDto fooDto = super.doMap(source);
+				fooDto.setName(fooDto.getName().toUpperCase());
+				return fooDto;
+			}
+		};
+
+		List<FooDto> results = (List<FooDto>) objectMapper.map(asList(new Foo(1L, "foo"), null));
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).getName()).isEqualTo("FOO");
+		assertThat(results.get(1)).isNull();
+		verify(mapper, never()).mapAll(anyList(), any(ObjectFactory.class), anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void it_should_map_lists_as_a_batch_if_enabled() {
+		AbstractInMemoryObjectMapper<Foo, FooDto> objectMapper = new AbstractInMemoryObjectMapper<Foo, FooDto>(mapper, Foo.class, FooDto.class) {
+			@Override
+			protected boolean isBatchMapping() {
+				return true;
+			}
+		};
+
+		List<Foo> foos = asList(new Foo(1L, "foo1"), new Foo(2L, "foo2"));
+		List<FooDto> results = (List<FooDto>) objectMapper.map(foos);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(1).getId()).isEqualTo(2L);
+		verify(mapper).mapAll(same(foos), any(ObjectFactory.class), anyList());
+		verify(mapper, never()).map(any(Foo.class), any(ObjectFactory.class));
+	}
 }
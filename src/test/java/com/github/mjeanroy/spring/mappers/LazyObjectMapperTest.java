@@ -27,6 +27,8 @@ package com.github.mjeanroy.spring.mappers;
 import com.github.mjeanroy.spring.mappers.factory.AbstractObjectFactory;
 import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyIterableMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableListMapper;
 import com.github.mjeanroy.spring.mappers.utils.Foo;
 import com.github.mjeanroy.spring.mappers.utils.FooDto;
 import com.github.mjeanroy.spring.mappers.utils.FooLazyMapper;
@@ -34,9 +36,11 @@ import com.github.mjeanroy.spring.mappers.utils.FooMapper;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import static com.github.mjeanroy.spring.mappers.ObjectMappers.lazyObjectMapper;
+import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.reflect.FieldUtils.readField;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
@@ -101,6 +105,35 @@ public class LazyObjectMapperTest extends AbstractObjectMapperTest {
 		verify(mapper).map(same(foos.get(1)), any(ObjectFactory.class));
 	}
 
+	@Test
+	public void it_should_map_random_access_list_to_lazy_list() {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(2L, "foo2");
+		Foo foo3 = new Foo(3L, "foo3");
+
+		Iterable<FooDto> results = fooMapper.map(asList(foo1, foo2, foo3));
+
+		assertThat(results).isInstanceOf(LazyUnmodifiableListMapper.class);
+		verify(mapper, never()).map(any(), any());
+
+		List<FooDto> list = (List<FooDto>) results;
+		assertThat(list).hasSize(3);
+		assertThat(list.get(2).getId()).isEqualTo(3L);
+		assertThat(list.subList(0, 1)).hasSize(1);
+		assertThat(list.subList(0, 1).get(0).getId()).isEqualTo(1L);
+		verify(mapper).map(same(foo1), any(ObjectFactory.class));
+		verify(mapper, never()).map(same(foo2), any(ObjectFactory.class));
+		verify(mapper).map(same(foo3), any(ObjectFactory.class));
+	}
+
+	@Test
+	public void it_should_map_linked_list_to_lazy_iterable() {
+		Iterable<FooDto> results = fooMapper.map(new LinkedList<>(asList(new Foo(1L, "foo1"))));
+
+		assertThat(results).isInstanceOf(LazyIterableMapper.class);
+		verify(mapper, never()).map(any(), any());
+	}
+
 	@Test
 	public void it_should_build_in_memory_mapper_with_explicit_generic_types() throws Exception {
 		ObjectMapper<Foo, FooDto> objectMapper = lazyObjectMapper(mapper, Foo.class, FooDto.class);
@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.iterables.LazyUnmodifiableMapMapper;
+import com.github.mjeanroy.spring.mappers.iterables.MemoizedUnmodifiableListMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooMemoizedMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.memoizedObjectMapper;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.apache.commons.lang3.reflect.FieldUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class MemoizedObjectMapperTest extends AbstractObjectMapperTest {
+
+	private FooMapper fooMapper;
+
+	private Mapper mapper;
+
+	@Before
+	public void setUp() {
+		mapper = spy(new SpringMapper());
+		fooMapper = new FooMemoizedMapper(mapper);
+	}
+
+	@Override
+	protected FooMapper fooMapper() {
+		return fooMapper;
+	}
+
+	@Override
+	protected void checkBeforeIteration(Iterable<FooDto> fooDtos, List<Foo> foos) {
+		verify(mapper, never()).map(any(), any());
+	}
+
+	@Override
+	protected void checkAfterIteration(List<FooDto> fooDtos, List<Foo> foos) {
+		verify(mapper, times(2)).map(any(Foo.class), any(ObjectFactory.class));
+		verify(mapper).map(same(foos.get(0)), any(ObjectFactory.class));
+		verify(mapper).map(same(foos.get(1)), any(ObjectFactory.class));
+	}
+
+	@Test
+	public void it_should_map_each_element_once() {
+		List<Foo> foos = asList(new Foo(1L, "foo1"), new Foo(2L, "foo2"));
+
+		Iterable<FooDto> fooDtos = fooMapper.map(foos);
+
+		assertThat(fooDtos).isInstanceOf(MemoizedUnmodifiableListMapper.class);
+
+		List<FooDto> first = new ArrayList<>((List<FooDto>) fooDtos);
+		for (int i = 0; i < 3; i++) {
+			List<FooDto> results = new ArrayList<>((List<FooDto>) fooDtos);
+			assertThat(results).hasSize(2);
+			assertThat(results.get(0)).isSameAs(first.get(0));
+			assertThat(results.get(1)).isSameAs(first.get(1));
+		}
+
+		verify(mapper, times(2)).map(any(Foo.class), any(ObjectFactory.class));
+	}
+
+	@Test
+	public void it_should_not_be_affected_by_source_list_modifications() {
+		List<Foo> foos = new ArrayList<>(asList(new Foo(1L, "foo1"), new Foo(2L, "foo2")));
+
+		List<FooDto> fooDtos = (List<FooDto>) fooMapper.map(foos);
+		FooDto first = fooDtos.get(0);
+		foos.remove(0);
+		foos.add(new Foo(3L, "foo3"));
+		foos.add(new Foo(4L, "foo4"));
+
+		assertThat(fooDtos).hasSize(2);
+		assertThat(fooDtos.get(0)).isSameAs(first);
+		assertThat(fooDtos.get(1).getId()).isEqualTo(2L);
+	}
+
+	@Test
+	public void it_should_map_each_map_value_once() {
+		Map<Long, Foo> foos = singletonMap(1L, new Foo(1L, "foo1"));
+
+		Map<Long, FooDto> fooDtos = fooMapper.map(foos);
+
+		assertThat(fooDtos).isInstanceOf(LazyUnmodifiableMapMapper.class);
+		assertThat(fooDtos.get(1L)).isNotNull().isSameAs(fooDtos.get(1L));
+		assertThat(fooDtos.get(1L).getName()).isEqualTo("foo1");
+	}
+
+	@Test
+	public void it_should_build_memoized_mapper_with_explicit_generic_types() throws Exception {
+		ObjectMapper<Foo, FooDto> objectMapper = memoizedObjectMapper(mapper, Foo.class, FooDto.class);
+
+		ObjectFactory factory = (ObjectFactory) readField(objectMapper, "factory", true);
+		Class klassU = (Class) readField(objectMapper, "klassU", true);
+
+		assertThat(factory).isNotNull().isInstanceOf(ObjectFactory.class);
+		assertThat(klassU).isNotNull().isEqualTo(FooDto.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void it_should_build_memoized_mapper_with_explicit_generic_types_and_factory() throws Exception {
+		ObjectFactory<FooDto, Foo> fact = mock(ObjectFactory.class);
+		ObjectMapper<Foo, FooDto> objectMapper = memoizedObjectMapper(mapper, Foo.class, FooDto.class, fact);
+
+		ObjectFactory factory = (ObjectFactory) readField(objectMapper, "factory", true);
+		Class klassU = (Class) readField(objectMapper, "klassU", true);
+
+		assertThat(factory).isNotNull().isSameAs(fact);
+		assertThat(klassU).isNotNull().isEqualTo(FooDto.class);
+	}
+}
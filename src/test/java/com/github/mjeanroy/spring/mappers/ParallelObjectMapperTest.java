@@ -0,0 +1,260 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers;
+
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooParallelMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.mjeanroy.spring.mappers.ObjectMappers.parallelObjectMapper;
+import static org.apache.commons.lang3.reflect.FieldUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class ParallelObjectMapperTest extends AbstractObjectMapperTest {
+
+	private FooMapper fooMapper;
+
+	private Mapper mapper;
+
+	private ForkJoinPool pool;
+
+	@Before
+	public void setUp() {
+		mapper = spy(new SpringMapper());
+		fooMapper = new FooParallelMapper(mapper);
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Override
+	protected FooMapper fooMapper() {
+		return fooMapper;
+	}
+
+	@Override
+	protected void checkBeforeIteration(Iterable<FooDto> fooDtos, List<Foo> foos) {
+		verify(mapper, times(2)).map(any(Foo.class), any(ObjectFactory.class));
+		verify(mapper).map(same(foos.get(0)), any(ObjectFactory.class));
+		verify(mapper).map(same(foos.get(1)), any(ObjectFactory.class));
+	}
+
+	@Override
+	protected void checkAfterIteration(List<FooDto> fooDtos, List<Foo> foos) {
+		verify(mapper, times(2)).map(any(Foo.class), any(ObjectFactory.class));
+	}
+
+	@Test
+	public void it_should_build_parallel_mapper_with_explicit_generic_types() throws Exception {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(mapper, Foo.class, FooDto.class, pool, 10);
+
+		assertThat(readField(objectMapper, "klassU", true)).isEqualTo(FooDto.class);
+		assertThat(readField(objectMapper, "pool", true)).isSameAs(pool);
+		assertThat(readField(objectMapper, "threshold", true)).isEqualTo(10);
+	}
+
+	@Test
+	public void it_should_map_large_list_in_parallel_and_preserve_order() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		List<Foo> foos = foos(1000);
+
+		Collection<FooDto> results = (Collection<FooDto>) objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(ArrayList.class).hasSize(foos.size());
+
+		int i = 0;
+		for (FooDto dto : results) {
+			assertThat(dto.getId()).isEqualTo(foos.get(i).getId());
+			i++;
+		}
+	}
+
+	@Test
+	public void it_should_fill_collection_created_by_init_iterable_in_parallel() {
+		final List<Foo> foos = foos(1000);
+		final LinkedList<FooDto> created = new LinkedList<>();
+		AbstractParallelObjectMapper<Foo, FooDto> objectMapper = new AbstractParallelObjectMapper<Foo, FooDto>(new SpringMapper(), Foo.class, FooDto.class) {
+			@Override
+			protected Collection<FooDto> initIterable(Iterable<Foo> sources) {
+				return created;
+			}
+
+			@Override
+			protected int getParallelismThreshold() {
+				return 10;
+			}
+		};
+
+		Collection<FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isSameAs(created).hasSize(foos.size());
+		assertThat(created.getLast().getId()).isEqualTo(foos.get(999).getId());
+	}
+
+	@Test
+	public void it_should_map_small_list_sequentially() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		List<Foo> foos = foos(9);
+
+		Iterable<FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(ArrayList.class).hasSize(foos.size());
+	}
+
+	@Test
+	public void it_should_map_linked_list_sequentially() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		List<Foo> foos = new LinkedList<>(foos(100));
+
+		Iterable<FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(ArrayList.class).hasSize(foos.size());
+	}
+
+	@Test
+	public void it_should_map_large_ordered_map_in_parallel_and_preserve_order() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		Map<Long, Foo> foos = new TreeMap<>(Collections.<Long>reverseOrder());
+		for (Foo foo : foos(1000)) {
+			foos.put(foo.getId(), foo);
+		}
+
+		Map<Long, FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(LinkedHashMap.class).hasSize(foos.size());
+		assertThat(new ArrayList<>(results.keySet())).isEqualTo(new ArrayList<>(foos.keySet()));
+		for (Map.Entry<Long, FooDto> entry : results.entrySet()) {
+			assertThat(entry.getValue().getId()).isEqualTo(entry.getKey());
+		}
+	}
+
+	@Test
+	public void it_should_map_large_unordered_map_in_parallel() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		Map<Long, Foo> foos = new HashMap<>();
+		for (Foo foo : foos(1000)) {
+			foos.put(foo.getId(), foo);
+		}
+		foos.put(-1L, null);
+
+		Map<Long, FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(LinkedHashMap.class).hasSize(foos.size());
+		assertThat(new ArrayList<>(results.keySet())).isEqualTo(new ArrayList<>(foos.keySet()));
+		assertThat(results.get(-1L)).isNull();
+		for (Foo foo : foos.values()) {
+			if (foo != null) {
+				assertThat(results.get(foo.getId()).getName()).isEqualTo(foo.getName());
+			}
+		}
+	}
+
+	@Test
+	public void it_should_map_small_map_sequentially() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+		Map<Long, Foo> foos = new HashMap<>();
+		for (Foo foo : foos(9)) {
+			foos.put(foo.getId(), foo);
+		}
+
+		Map<Long, FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(LinkedHashMap.class).hasSize(foos.size());
+	}
+
+	@Test
+	public void it_should_return_same_map_below_and_above_map_parallelism_threshold() {
+		ObjectMapper<Foo, FooDto> objectMapper = parallelObjectMapper(new SpringMapper(), Foo.class, FooDto.class, pool, 10);
+
+		Map<Long, Foo> below = new HashMap<>();
+		for (Foo foo : foos(9)) {
+			below.put(foo.getId() * 31, foo);
+		}
+
+		Map<Long, Foo> above = new HashMap<>(below);
+		above.put(10L * 31, new Foo(10L, "foo10"));
+
+		Map<Long, FooDto> sequential = objectMapper.map(below);
+		Map<Long, FooDto> parallel = objectMapper.map(above);
+
+		assertThat(parallel.getClass()).isEqualTo(sequential.getClass());
+		assertThat(new ArrayList<>(sequential.keySet())).isEqualTo(new ArrayList<>(below.keySet()));
+		assertThat(new ArrayList<>(parallel.keySet())).isEqualTo(new ArrayList<>(above.keySet()));
+	}
+
+	@Test
+	public void it_should_fill_map_created_by_init_map_in_parallel() {
+		AbstractParallelObjectMapper<Foo, FooDto> objectMapper = new AbstractParallelObjectMapper<Foo, FooDto>(new SpringMapper(), Foo.class, FooDto.class) {
+			@Override
+			protected <K> Map<K, FooDto> initMap(Map<K, Foo> sources) {
+				return new TreeMap<>();
+			}
+
+			@Override
+			protected int getParallelismThreshold() {
+				return 10;
+			}
+		};
+
+		Map<Long, Foo> foos = new HashMap<>();
+		for (Foo foo : foos(100)) {
+			foos.put(foo.getId(), foo);
+		}
+
+		Map<Long, FooDto> results = objectMapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(TreeMap.class).hasSize(foos.size());
+	}
+
+	private static List<Foo> foos(int size) {
+		List<Foo> foos = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			foos.add(new Foo((long) i, "foo" + i));
+		}
+		return foos;
+	}
+}
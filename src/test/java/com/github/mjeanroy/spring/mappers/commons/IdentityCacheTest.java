@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdentityCacheTest {
+
+	@Test
+	public void it_should_create_empty_cache() {
+		IdentityCache<Object, Object> cache = new IdentityCache<>();
+		assertThat(cache.isEmpty()).isTrue();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.get(new Object())).isNull();
+	}
+
+	@Test
+	public void it_should_put_and_get_values_by_identity() {
+		IdentityCache<String, Integer> cache = new IdentityCache<>();
+		String k1 = new String("foo");
+		String k2 = new String("foo");
+
+		cache.put(k1, 1);
+
+		assertThat(cache.get(k1)).isEqualTo(1);
+		assertThat(cache.get(k2)).isNull();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void it_should_replace_value() {
+		IdentityCache<Object, Integer> cache = new IdentityCache<>();
+		Object key = new Object();
+
+		cache.put(key, 1);
+		cache.put(key, 2);
+
+		assertThat(cache.get(key)).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void it_should_grow() {
+		IdentityCache<Object, Integer> cache = new IdentityCache<>(1);
+		List<Object> keys = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			Object key = new Object();
+			keys.add(key);
+			cache.put(key, i);
+		}
+
+		assertThat(cache.size()).isEqualTo(10000);
+		for (int i = 0; i < 10000; i++) {
+			assertThat(cache.get(keys.get(i))).isEqualTo(i);
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void it_should_not_support_null_key() {
+		new IdentityCache<Object, Object>().put(null, 1);
+	}
+}
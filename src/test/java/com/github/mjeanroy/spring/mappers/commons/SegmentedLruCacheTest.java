@@ -0,0 +1,164 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentedLruCacheTest {
+
+	@Test
+	public void it_should_put_and_get_values() {
+		SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(10);
+
+		assertThat(cache.get("foo")).isNull();
+		assertThat(cache.putIfAbsent("foo", "bar")).isEqualTo("bar");
+		assertThat(cache.putIfAbsent("foo", "baz")).isEqualTo("bar");
+		assertThat(cache.get("foo")).isEqualTo("bar");
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1L);
+		assertThat(cache.getMissCount()).isEqualTo(1L);
+		assertThat(cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	public void it_should_evict_entries_when_cache_is_full() {
+		SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(10);
+		for (int i = 0; i < 100; i++) {
+			cache.putIfAbsent(i, i);
+		}
+
+		assertThat(cache.size()).isEqualTo(10);
+		assertThat(cache.getEvictionCount()).isEqualTo(90L);
+	}
+
+	@Test
+	public void it_should_keep_frequently_read_entries_during_scan() {
+		SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(10);
+		cache.putIfAbsent(-1, -1);
+		cache.get(-1);
+
+		for (int i = 0; i < 1000; i++) {
+			cache.putIfAbsent(i, i);
+		}
+
+		assertThat(cache.get(-1)).isEqualTo(-1);
+	}
+
+	@Test
+	public void it_should_apply_buffered_reads_before_eviction() {
+		SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(10);
+		for (int i = 0; i < 10; i++) {
+			cache.putIfAbsent(i, i);
+		}
+
+		// Many reads: read buffer is drained several times while reading.
+		for (int n = 0; n < 100; n++) {
+			for (int i = 0; i < 5; i++) {
+				assertThat(cache.get(i)).isEqualTo(i);
+			}
+		}
+
+		for (int i = 10; i < 1000; i++) {
+			cache.putIfAbsent(i, i);
+		}
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(cache.get(i)).isEqualTo(i);
+		}
+
+		assertThat(cache.size()).isEqualTo(10);
+	}
+
+	@Test
+	public void it_should_remove_entry() {
+		SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(10);
+		cache.putIfAbsent("foo", "bar");
+		cache.remove("foo");
+		assertThat(cache.get("foo")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void it_should_be_bounded_with_several_segments() {
+		SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(1000);
+		for (int i = 0; i < 10000; i++) {
+			cache.putIfAbsent(i, i);
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(1000);
+	}
+
+	@Test
+	public void it_should_support_concurrent_access() throws Exception {
+		final SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(100);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						for (int i = 0; i < 10000; i++) {
+							int key = i % 200;
+							Integer value = cache.get(key);
+							if (value == null) {
+								cache.putIfAbsent(key, key);
+							}
+							else {
+								assertThat(value).isEqualTo(key);
+							}
+						}
+						return null;
+					}
+				}));
+			}
+
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(100);
+		assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(40000L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void it_should_not_create_cache_without_capacity() {
+		new SegmentedLruCache<String, String>(0);
+	}
+}
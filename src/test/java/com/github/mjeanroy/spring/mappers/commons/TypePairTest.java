@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.commons;
+
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypePairTest {
+
+	@Test
+	public void it_should_create_type_pair() {
+		TypePair pair = TypePair.of(Foo.class, FooDto.class);
+		assertThat(pair.getSource()).isSameAs(Foo.class);
+		assertThat(pair.getDestination()).isSameAs(FooDto.class);
+	}
+
+	@Test
+	public void it_should_implement_equals_and_hash_code() {
+		TypePair p1 = TypePair.of(Foo.class, FooDto.class);
+		TypePair p2 = TypePair.of(Foo.class, FooDto.class);
+		TypePair p3 = TypePair.of(FooDto.class, Foo.class);
+
+		assertThat(p1).isEqualTo(p2).isNotEqualTo(p3);
+		assertThat(p1.hashCode()).isEqualTo(p2.hashCode());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void it_should_not_create_type_pair_without_source() {
+		TypePair.of(null, FooDto.class);
+	}
+}
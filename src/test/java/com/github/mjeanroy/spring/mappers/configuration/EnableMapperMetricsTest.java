@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.metrics.MappingMetricsBinder;
+import com.github.mjeanroy.spring.mappers.metrics.MappingMetricsRegistry;
+import com.github.mjeanroy.spring.mappers.metrics.MetricsMapper;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooInMemoryMapper;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = EnableMapperMetricsTest.MetricsConfiguration.class)
+public class EnableMapperMetricsTest {
+
+	@Autowired
+	private Mapper mapper;
+
+	@Autowired
+	private MappingMetricsRegistry registry;
+
+	@Autowired
+	private MappingMetricsBinder binder;
+
+	@Autowired
+	private FooInMemoryMapper fooInMemoryMapper;
+
+	@Autowired
+	private SimpleMeterRegistry meterRegistry;
+
+	@Test
+	public void it_should_record_mapping_metrics() {
+		assertThat(mapper).isInstanceOf(MetricsMapper.class);
+		assertThat(((MetricsMapper) mapper).getMapper()).isInstanceOf(SpringMapper.class);
+		assertThat(binder).isNotNull();
+
+		fooInMemoryMapper.map(new Foo(1L, "foo"));
+
+		assertThat(registry.getTimer(Foo.class, FooDto.class).getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void it_should_publish_mapping_metrics_to_meter_registry() {
+		fooInMemoryMapper.map(new Foo(1L, "foo"));
+
+		FunctionTimer timer = meterRegistry.get(MappingMetricsBinder.TIMER_NAME)
+				.tag("source", Foo.class.getName())
+				.tag("destination", FooDto.class.getName())
+				.functionTimer();
+
+		assertThat(timer.count()).isGreaterThanOrEqualTo(1.0);
+	}
+
+	@EnableMapper(provider = MapperProvider.SPRING, metrics = true)
+	public static class MetricsConfiguration {
+
+		@Bean
+		public FooInMemoryMapper fooInMemoryMapper(Mapper mapper) {
+			return new FooInMemoryMapper(mapper);
+		}
+
+		@Bean
+		public SimpleMeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.utils.FooInMemoryMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooLazyMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = EnableMapperWarmUpTest.WarmUpConfiguration.class)
+public class EnableMapperWarmUpTest {
+
+	@Autowired
+	private MapperWarmUp mapperWarmUp;
+
+	@Test
+	public void it_should_warm_up_object_mappers() {
+		assertThat(mapperWarmUp.getDurations())
+				.hasSize(2)
+				.containsKeys("fooInMemoryMapper", "fooLazyMapper");
+	}
+
+	@EnableMapper(provider = MapperProvider.SPRING, warmUp = true, warmUpExecutor = "warmUpExecutor")
+	public static class WarmUpConfiguration {
+
+		@Bean
+		public SyncTaskExecutor warmUpExecutor() {
+			return new SyncTaskExecutor();
+		}
+
+		@Bean
+		public FooInMemoryMapper fooInMemoryMapper(Mapper mapper) {
+			return new FooInMemoryMapper(mapper);
+		}
+
+		@Bean
+		public FooLazyMapper fooLazyMapper(Mapper mapper) {
+			return new FooLazyMapper(mapper);
+		}
+	}
+}
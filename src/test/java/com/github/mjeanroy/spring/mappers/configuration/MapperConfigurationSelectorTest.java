@@ -27,6 +27,7 @@ package com.github.mjeanroy.spring.mappers.configuration;
 import org.junit.Test;
 import org.springframework.core.type.AnnotationMetadata;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static java.util.Collections.singletonMap;
@@ -59,4 +60,50 @@ public class MapperConfigurationSelectorTest {
 		verify(metadata).getAnnotationAttributes(EnableMapper.class.getName());
 		verify(provider).configurationClass();
 	}
+
+	@Test
+	public void it_should_load_warm_up_configuration() {
+		final Class<?> configurationClass = MapperConfigurationSelectorTest.class;
+		final MapperConfigurationSelector selector = new MapperConfigurationSelector();
+		final AnnotationMetadata metadata = mock(AnnotationMetadata.class);
+		final MapperProvider provider = mock(MapperProvider.class);
+		final Map<String, Object> annotationAttributes = new HashMap<>();
+		annotationAttributes.put("provider", provider);
+		annotationAttributes.put("warmUp", true);
+
+		when(metadata.getAnnotationAttributes(EnableMapper.class.getName())).thenReturn(annotationAttributes);
+		when(provider.configurationClass()).thenReturn(configurationClass);
+
+		final String[] klasses = selector.selectImports(metadata);
+
+		assertThat(klasses)
+				.isNotNull()
+				.hasSize(2)
+				.containsOnly(configurationClass.getName(), MapperWarmUpConfiguration.class.getName());
+	}
+
+	@Test
+	public void it_should_load_metrics_configuration() {
+		final Class<?> configurationClass = MapperConfigurationSelectorTest.class;
+		final MapperConfigurationSelector selector = new MapperConfigurationSelector();
+		final AnnotationMetadata metadata = mock(AnnotationMetadata.class);
+		final MapperProvider provider = mock(MapperProvider.class);
+		final Map<String, Object> annotationAttributes = new HashMap<>();
+		annotationAttributes.put("provider", provider);
+		annotationAttributes.put("metrics", true);
+
+		when(metadata.getAnnotationAttributes(EnableMapper.class.getName())).thenReturn(annotationAttributes);
+		when(provider.configurationClass()).thenReturn(configurationClass);
+
+		final String[] klasses = selector.selectImports(metadata);
+
+		assertThat(klasses)
+				.isNotNull()
+				.hasSize(3)
+				.containsOnly(
+						configurationClass.getName(),
+						MapperMetricsConfiguration.class.getName(),
+						MapperMicrometerConfiguration.class.getName()
+				);
+	}
 }
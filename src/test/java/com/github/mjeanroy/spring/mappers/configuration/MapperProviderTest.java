@@ -26,6 +26,7 @@ package com.github.mjeanroy.spring.mappers.configuration;
 
 import com.github.mjeanroy.spring.mappers.commons.ClassUtils;
 import com.github.mjeanroy.spring.mappers.configuration.dozer.DozerConfiguration;
+import com.github.mjeanroy.spring.mappers.configuration.generated.GeneratedMapperConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.modelmapper.ModelMapperConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.orika.OrikaConfiguration;
 import com.github.mjeanroy.spring.mappers.configuration.spring.SpringMapperConfiguration;
@@ -80,6 +81,14 @@ public class MapperProviderTest {
 				.isEqualTo(SpringMapperConfiguration.class);
 	}
 
+	@Test
+	public void it_should_get_generated_configuration_class() {
+		Class<?> klass = MapperProvider.GENERATED.configurationClass();
+		assertThat(klass)
+				.isNotNull()
+				.isEqualTo(GeneratedMapperConfiguration.class);
+	}
+
 	@Test
 	public void it_should_load_dozer_by_default() {
 		mockStaticClasses(true, true, true);
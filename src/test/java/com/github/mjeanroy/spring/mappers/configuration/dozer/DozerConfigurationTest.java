@@ -32,6 +32,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -47,4 +49,11 @@ public class DozerConfigurationTest {
 				.isNotNull()
 				.isExactlyInstanceOf(DozerMapper.class);
 	}
+
+	@Test
+	public void it_should_not_initialize_dozer_without_settings() {
+		DozerMapper dozerMapper = (DozerMapper) mapper;
+		assertThat(dozerMapper.isInitialized()).isFalse();
+		assertThat(dozerMapper.getInitializationTime(TimeUnit.NANOSECONDS)).isEqualTo(-1L);
+	}
 }
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration.dozer;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.impl.dozer.DozerMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.dozer.DozerBeanMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = DozerSettingsConfigurationTest.SettingsConfiguration.class)
+public class DozerSettingsConfigurationTest {
+
+	@Autowired
+	private Mapper mapper;
+
+	@Autowired
+	private DozerBeanMapper dozerBeanMapper;
+
+	@Test
+	public void it_should_initialize_dozer_with_settings() {
+		assertThat(((DozerMapper) mapper).getInitializationTime(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+		assertThat(dozerBeanMapper.getMappingFiles()).containsExactly("dozer/foo-mappings.xml");
+		assertThat(dozerBeanMapper.getMappingMetadata().getClassMapping(Foo.class, Foo.class)).isNotNull();
+
+		FooDto fooDto = new FooDto();
+		mapper.map(new Foo(1L, "foo"), fooDto);
+		assertThat(fooDto.getId()).isEqualTo(1L);
+		assertThat(fooDto.getName()).isNull();
+	}
+
+	@Configuration
+	@Import(DozerConfiguration.class)
+	public static class SettingsConfiguration {
+
+		@Bean
+		public DozerSettings dozerSettings() {
+			return new DozerSettings()
+					.addMappingFile("dozer/foo-mappings.xml")
+					.addTypePair(Foo.class, Foo.class);
+		}
+	}
+}
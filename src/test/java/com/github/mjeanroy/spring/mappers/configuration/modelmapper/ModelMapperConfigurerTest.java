@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration.modelmapper;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collection;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ModelMapperConfigurerTest.ConfigurerConfiguration.class)
+public class ModelMapperConfigurerTest {
+
+	@Autowired
+	private ModelMapper modelMapper;
+
+	@Autowired
+	private Mapper mapper;
+
+	@Test
+	public void it_should_configure_model_mapper() {
+		assertThat(modelMapper.getConfiguration().isFieldMatchingEnabled()).isTrue();
+	}
+
+	@Test
+	public void it_should_prepare_type_maps_at_startup() {
+		assertThat(modelMapper.getTypeMap(Foo.class, FooDto.class)).isNotNull();
+		assertThat(modelMapper.getTypeMap(FooDto.class, Foo.class)).isNull();
+
+		FooDto fooDto = new FooDto();
+		mapper.map(new Foo(1L, "foo"), fooDto);
+
+		assertThat(fooDto.getId()).isEqualTo(1L);
+		assertThat(fooDto.getName()).isEqualTo("foo");
+	}
+
+	@Configuration
+	@Import(ModelMapperConfiguration.class)
+	public static class ConfigurerConfiguration {
+
+		@Bean
+		public ModelMapperConfigurer modelMapperConfigurer() {
+			return new ModelMapperConfigurer() {
+				@Override
+				public void configure(ModelMapper modelMapper) {
+					modelMapper.getConfiguration().setFieldMatchingEnabled(true);
+				}
+
+				@Override
+				public Collection<TypePair> getTypePairs() {
+					return singletonList(TypePair.of(Foo.class, FooDto.class));
+				}
+			};
+		}
+	}
+}
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.spring.mappers.configuration.orika;
 
 import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ContextConfiguration(classes = OrikaBeanConfiguration.class)
 public class OrikaBeanConfigurationTest {
 
+	@Autowired
+	private MapperFactory mapperFactory;
+
 	@Autowired
 	private MapperFacade mapperFacade;
 
@@ -44,4 +48,9 @@ public class OrikaBeanConfigurationTest {
 	public void it_should_load_mapper_facade() {
 		assertThat(mapperFacade).isNotNull();
 	}
+
+	@Test
+	public void it_should_load_mapper_factory() {
+		assertThat(mapperFactory).isNotNull();
+	}
 }
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.configuration.orika;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.impl.orika.OrikaMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collection;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = OrikaConfigurerTest.ConfigurerConfiguration.class)
+public class OrikaConfigurerTest {
+
+	@Autowired
+	private Mapper mapper;
+
+	@Test
+	public void it_should_configure_mapper_factory() {
+		OrikaMapper orikaMapper = (OrikaMapper) mapper;
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+
+		FooDto fooDto = new FooDto();
+		fooDto.setId(1L);
+		orikaMapper.map(new Foo(null, "foo"), fooDto);
+
+		// Null values are not mapped, name is excluded by registered class map.
+		assertThat(fooDto.getId()).isEqualTo(1L);
+		assertThat(fooDto.getName()).isNull();
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+		assertThat(orikaMapper.getCacheHits()).isEqualTo(1L);
+	}
+
+	@Configuration
+	@Import(OrikaConfiguration.class)
+	public static class ConfigurerConfiguration {
+
+		@Bean
+		public OrikaConfigurer orikaConfigurer() {
+			return new OrikaConfigurer() {
+				@Override
+				public void configureBuilder(DefaultMapperFactory.Builder builder) {
+					builder.mapNulls(false);
+				}
+
+				@Override
+				public void configureFactory(MapperFactory mapperFactory) {
+					mapperFactory.classMap(Foo.class, FooDto.class)
+							.exclude("name")
+							.byDefault()
+							.register();
+				}
+
+				@Override
+				public Collection<TypePair> getTypePairs() {
+					return singletonList(TypePair.of(Foo.class, FooDto.class));
+				}
+			};
+		}
+	}
+}
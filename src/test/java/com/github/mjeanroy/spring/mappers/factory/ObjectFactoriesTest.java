@@ -27,6 +27,7 @@ package com.github.mjeanroy.spring.mappers.factory;
 import com.github.mjeanroy.spring.mappers.utils.Foo;
 import com.github.mjeanroy.spring.mappers.utils.FooDto;
 import org.junit.Test;
+import org.springframework.beans.BeanInstantiationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -49,4 +50,25 @@ public class ObjectFactoriesTest {
 		FooDto target = factory.get(null);
 		assertThat(target).isNotNull();
 	}
+
+	@Test
+	public void it_should_create_new_target_object_on_each_call() {
+		ObjectFactory<FooDto, Foo> factory = ObjectFactories.reflectionObjectFactory(FooDto.class, Foo.class);
+		FooDto t1 = factory.get(null);
+		FooDto t2 = factory.get(null);
+		assertThat(t1).isNotNull().isNotSameAs(t2);
+		assertThat(t2).isNotNull();
+	}
+
+	@Test(expected = BeanInstantiationException.class)
+	public void it_should_fail_to_create_target_object_without_default_constructor() {
+		ObjectFactory<Long, Foo> factory = ObjectFactories.reflectionObjectFactory(Long.class, Foo.class);
+		factory.get(null);
+	}
+
+	@Test(expected = BeanInstantiationException.class)
+	public void it_should_fail_to_create_target_object_of_abstract_class() {
+		ObjectFactory<Number, Foo> factory = ObjectFactories.reflectionObjectFactory(Number.class, Foo.class);
+		factory.get(null);
+	}
 }
@@ -27,8 +27,14 @@ package com.github.mjeanroy.spring.mappers.impl;
 import com.github.mjeanroy.spring.mappers.utils.Foo;
 import com.github.mjeanroy.spring.mappers.utils.FooDto;
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.spring.mappers.factory.ObjectFactories.reflectionObjectFactory;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public abstract class AbstractMapperTest {
@@ -48,4 +54,22 @@ public abstract class AbstractMapperTest {
 		assertThat(fooDto.getId()).isNotNull().isEqualTo(id);
 		assertThat(fooDto.getName()).isNotNull().isEqualTo(name);
 	}
+
+	@Test
+	public void it_should_map_list_of_objects() {
+		Foo foo1 = new Foo(1L, "foo1");
+		Foo foo2 = new Foo(2L, "foo2");
+		List<Foo> foos = asList(foo1, null, foo2);
+		ObjectFactory<FooDto, Foo> factory = reflectionObjectFactory(FooDto.class, Foo.class);
+
+		List<FooDto> fooDtos = new ArrayList<>();
+		mapper().mapAll(foos, factory, fooDtos);
+
+		assertThat(fooDtos).hasSize(3);
+		assertThat(fooDtos.get(0).getId()).isEqualTo(foo1.getId());
+		assertThat(fooDtos.get(0).getName()).isEqualTo(foo1.getName());
+		assertThat(fooDtos.get(1)).isNull();
+		assertThat(fooDtos.get(2).getId()).isEqualTo(foo2.getId());
+		assertThat(fooDtos.get(2).getName()).isEqualTo(foo2.getName());
+	}
 }
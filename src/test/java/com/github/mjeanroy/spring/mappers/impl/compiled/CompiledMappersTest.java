@@ -0,0 +1,60 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.compiled;
+
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooCompiledMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooCompiledMapper_CompiledMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooInMemoryMapper;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledMappersTest {
+
+	@Test
+	public void it_should_get_generated_class_name() {
+		assertThat(CompiledMappers.generatedClassName("com.acme", "FooMapper")).isEqualTo("com.acme.FooMapper_CompiledMapper");
+		assertThat(CompiledMappers.generatedClassName("com.acme", "Outer", "FooMapper")).isEqualTo("com.acme.Outer_FooMapper_CompiledMapper");
+		assertThat(CompiledMappers.generatedClassName("", "FooMapper")).isEqualTo("FooMapper_CompiledMapper");
+	}
+
+	@Test
+	public void it_should_not_find_compiled_mapper_of_class_without_annotation() {
+		assertThat(CompiledMappers.lookup(FooInMemoryMapper.class)).isNull();
+	}
+
+	@Test
+	public void it_should_find_compiled_mapper_of_annotated_class() {
+		AbstractCompiledMapper<Foo, FooDto> mapper = CompiledMappers.lookup(FooCompiledMapper.class);
+		assertThat(mapper)
+				.isNotNull()
+				.isExactlyInstanceOf(FooCompiledMapper_CompiledMapper.class);
+
+		assertThat(mapper.getSourceClass()).isSameAs(Foo.class);
+		assertThat(mapper.getDestinationClass()).isSameAs(FooDto.class);
+	}
+}
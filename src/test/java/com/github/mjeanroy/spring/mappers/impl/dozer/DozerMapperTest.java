@@ -24,11 +24,22 @@
 
 package com.github.mjeanroy.spring.mappers.impl.dozer;
 
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapperTest;
 import com.github.mjeanroy.spring.mappers.Mapper;
 
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
 import org.dozer.DozerBeanMapper;
 import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class DozerMapperTest extends AbstractMapperTest {
 
@@ -43,4 +54,47 @@ public class DozerMapperTest extends AbstractMapperTest {
 	protected Mapper mapper() {
 		return dozerMapper;
 	}
+
+	@Test
+	public void it_should_not_be_initialized_eagerly_by_default() {
+		assertThat(dozerMapper.getInitializationTime(TimeUnit.NANOSECONDS)).isEqualTo(-1L);
+	}
+
+	@Test
+	public void it_should_check_if_dozer_is_initialized() {
+		assertThat(dozerMapper.isInitialized()).isFalse();
+
+		dozerMapper.map(new Foo(1L, "foo"), new FooDto());
+
+		assertThat(dozerMapper.isInitialized()).isTrue();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void it_should_not_initialize_dozer_twice() {
+		List<String> mappingFiles = emptyList();
+		List<TypePair> typePairs = emptyList();
+		dozerMapper.initialize(mappingFiles, typePairs);
+		dozerMapper.initialize(mappingFiles, typePairs);
+	}
+
+	@Test
+	public void it_should_initialize_type_pairs() {
+		List<String> mappingFiles = emptyList();
+		dozerMapper.initialize(mappingFiles, singletonList(TypePair.of(Foo.class, FooDto.class)));
+
+		assertThat(dozerMapper.getInitializationTime(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+		assertThat(dozerMapper.getDelegate().getMappingMetadata().getClassMapping(Foo.class, FooDto.class)).isNotNull();
+	}
+
+	@Test
+	public void it_should_initialize_mapping_files() {
+		List<TypePair> typePairs = emptyList();
+		dozerMapper.initialize(singletonList("dozer/foo-mappings.xml"), typePairs);
+
+		FooDto fooDto = new FooDto();
+		dozerMapper.map(new Foo(1L, "foo"), fooDto);
+
+		assertThat(fooDto.getId()).isEqualTo(1L);
+		assertThat(fooDto.getName()).isNull();
+	}
 }
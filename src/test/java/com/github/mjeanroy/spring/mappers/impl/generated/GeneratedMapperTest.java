@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.generated;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.impl.AbstractMapperTest;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cglib.beans.BeanCopier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GeneratedMapperTest extends AbstractMapperTest {
+
+	private GeneratedMapper generatedMapper;
+
+	@Before
+	public void setUp() {
+		generatedMapper = new GeneratedMapper();
+	}
+
+	@Override
+	protected Mapper mapper() {
+		return generatedMapper;
+	}
+
+	@Test
+	public void it_should_cache_copier_per_type_pair() {
+		BeanCopier c1 = generatedMapper.copier(Foo.class, FooDto.class);
+		BeanCopier c2 = generatedMapper.copier(Foo.class, FooDto.class);
+		assertThat(c1).isNotNull().isSameAs(c2);
+	}
+}
@@ -24,11 +24,20 @@
 
 package com.github.mjeanroy.spring.mappers.impl.modelmapper;
 
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapperTest;
 import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
 
 import org.junit.Before;
+import org.junit.Test;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.modelmapper.ValidationException;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class ModelMapperMapperTest extends AbstractMapperTest {
 
@@ -44,4 +53,39 @@ public class ModelMapperMapperTest extends AbstractMapperTest {
 	protected Mapper mapper() {
 		return modelMapperMapper;
 	}
+
+	@Test
+	public void it_should_cache_type_map_per_type_pair() {
+		TypeMap t1 = modelMapperMapper.typeMap(Foo.class, FooDto.class);
+		TypeMap t2 = modelMapperMapper.typeMap(Foo.class, FooDto.class);
+
+		assertThat(t1).isNotNull().isSameAs(t2);
+		assertThat(modelMapperMapper.getDelegate().getTypeMap(Foo.class, FooDto.class)).isSameAs(t1);
+	}
+
+	@Test
+	public void it_should_prepare_type_maps() {
+		modelMapperMapper.prepare(singletonList(TypePair.of(Foo.class, FooDto.class)));
+
+		TypeMap<Foo, FooDto> typeMap = modelMapperMapper.prepare(Foo.class, FooDto.class);
+
+		assertThat(typeMap).isNotNull().isSameAs(modelMapperMapper.typeMap(Foo.class, FooDto.class));
+	}
+
+	@Test(expected = ValidationException.class)
+	public void it_should_fail_to_prepare_type_map_with_unmatched_destination_properties() {
+		modelMapperMapper.prepare(Foo.class, UnmatchedDto.class);
+	}
+
+	public static class UnmatchedDto {
+		private String unknown;
+
+		public String getUnknown() {
+			return unknown;
+		}
+
+		public void setUnknown(String unknown) {
+			this.unknown = unknown;
+		}
+	}
 }
@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.impl.orika;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.impl.AbstractMapperTest;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrikaFactoryMapperTest extends AbstractMapperTest {
+
+	private OrikaMapper orikaMapper;
+
+	@Before
+	public void setUp() {
+		orikaMapper = new OrikaMapper(new DefaultMapperFactory.Builder().build());
+	}
+
+	@Override
+	protected Mapper mapper() {
+		return orikaMapper;
+	}
+
+	@Test
+	public void it_should_cache_bound_facade_per_type_pair() {
+		BoundMapperFacade f1 = orikaMapper.facade(Foo.class, FooDto.class);
+		BoundMapperFacade f2 = orikaMapper.facade(Foo.class, FooDto.class);
+
+		assertThat(f1).isNotNull().isSameAs(f2);
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+		assertThat(orikaMapper.getCacheHits()).isEqualTo(1L);
+	}
+
+	@Test
+	public void it_should_use_bound_facade_to_map_objects() {
+		orikaMapper.map(new Foo(1L, "foo"), new FooDto());
+		orikaMapper.map(new Foo(2L, "bar"), new FooDto());
+
+		FooDto fooDto = new FooDto();
+		orikaMapper.map(new Foo(3L, "baz"), fooDto);
+
+		assertThat(fooDto.getId()).isEqualTo(3L);
+		assertThat(fooDto.getName()).isEqualTo("baz");
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+		assertThat(orikaMapper.getCacheHits()).isEqualTo(2L);
+	}
+
+	@Test
+	public void it_should_prepare_bound_facades() {
+		orikaMapper.prepare(singletonList(TypePair.of(Foo.class, FooDto.class)));
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+
+		orikaMapper.map(new Foo(1L, "foo"), new FooDto());
+		assertThat(orikaMapper.getCacheMisses()).isEqualTo(1L);
+		assertThat(orikaMapper.getCacheHits()).isEqualTo(1L);
+	}
+}
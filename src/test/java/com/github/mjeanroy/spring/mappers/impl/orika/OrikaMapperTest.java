@@ -24,11 +24,17 @@
 
 package com.github.mjeanroy.spring.mappers.impl.orika;
 
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
 import com.github.mjeanroy.spring.mappers.impl.AbstractMapperTest;
 import com.github.mjeanroy.spring.mappers.Mapper;
 import ma.glasnost.orika.MapperFacade;
 import ma.glasnost.orika.impl.DefaultMapperFactory;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
 import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
 
 public class OrikaMapperTest extends AbstractMapperTest {
 
@@ -47,4 +53,9 @@ public class OrikaMapperTest extends AbstractMapperTest {
 	protected Mapper mapper() {
 		return orikaMapper;
 	}
+
+	@Test(expected = IllegalStateException.class)
+	public void it_should_not_prepare_type_pairs_without_factory() {
+		orikaMapper.prepare(singletonList(TypePair.of(Foo.class, FooDto.class)));
+	}
 }
@@ -66,4 +66,46 @@ public class SpringFacadeMapperTest {
 		assertThat(fooDto.getId()).isNotNull().isEqualTo(id);
 		assertThat(fooDto.getName()).isNotNull().isEqualTo(name);
 	}
+
+	@Test
+	public void it_should_cache_property_copier_per_type_pair() {
+		PropertyCopier c1 = springFacadeMapper.copier(Foo.class, FooDto.class);
+		PropertyCopier c2 = springFacadeMapper.copier(Foo.class, FooDto.class);
+
+		assertThat(c1).isNotNull().isSameAs(c2);
+		assertThat(c1.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void it_should_skip_properties_with_incompatible_types() {
+		Foo foo = new Foo(1L, "foo");
+
+		StringIdDto dto = new StringIdDto();
+		springFacadeMapper.map(foo, dto);
+
+		assertThat(dto.getId()).isNull();
+		assertThat(dto.getName()).isEqualTo("foo");
+		assertThat(springFacadeMapper.copier(Foo.class, StringIdDto.class).size()).isEqualTo(1);
+	}
+
+	public static class StringIdDto {
+		private String id;
+		private String name;
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
 }
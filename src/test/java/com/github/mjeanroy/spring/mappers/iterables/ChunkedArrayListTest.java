@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedArrayListTest {
+
+	@Test
+	public void it_should_create_empty_list() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		assertThat(list).isEmpty();
+		assertThat(list.size()).isZero();
+	}
+
+	@Test
+	public void it_should_add_elements_across_chunks() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			list.add(i);
+			expected.add(i);
+		}
+
+		assertThat(list.size()).isEqualTo(10000);
+		assertThat(list).isEqualTo(expected);
+		for (int i = 0; i < 10000; i++) {
+			assertThat(list.get(i)).isEqualTo(i);
+		}
+	}
+
+	@Test
+	public void it_should_get_elements_at_chunk_boundaries() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			list.add(i);
+		}
+
+		int first = ChunkedArrayList.FIRST_CHUNK_SIZE;
+		assertThat(list.get(first - 1)).isEqualTo(first - 1);
+		assertThat(list.get(first)).isEqualTo(first);
+		assertThat(list.get(3 * first - 1)).isEqualTo(3 * first - 1);
+		assertThat(list.get(3 * first)).isEqualTo(3 * first);
+	}
+
+	@Test
+	public void it_should_store_null_elements() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		list.add(null);
+		assertThat(list).hasSize(1).containsNull();
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void it_should_fail_to_get_element_out_of_bounds() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		list.add(1);
+		list.get(1);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void it_should_fail_fast_if_list_is_modified_during_iteration() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		list.add(1);
+		list.add(2);
+
+		Iterator<Integer> it = list.iterator();
+		it.next();
+		list.add(3);
+		it.next();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_remove_element() {
+		ChunkedArrayList<Integer> list = new ChunkedArrayList<>();
+		list.add(1);
+		list.remove(0);
+	}
+}
@@ -26,6 +26,7 @@ package com.github.mjeanroy.spring.mappers.iterables;
 
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.util.*;
 
 import static java.util.Arrays.asList;
@@ -46,7 +47,72 @@ public class IterablesTest {
 	}
 
 	@Test
-	public void it_should_get_linked_list_from_iterable() {
+	public void it_should_copy_mutable_random_access_list() {
+		List<String> list = new ArrayList<>(asList("foo", "bar"));
+		List<String> copy = Iterables.toList(list);
+		list.add("baz");
+
+		assertThat(copy)
+				.isNotNull()
+				.isNotSameAs(list)
+				.containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void it_should_not_copy_immutable_lists() {
+		List<String> empty = Collections.emptyList();
+		List<String> singleton = Collections.singletonList("foo");
+
+		assertThat(Iterables.toList(empty)).isSameAs(empty);
+		assertThat(Iterables.toList(singleton)).isSameAs(singleton);
+	}
+
+	@Test
+	public void it_should_copy_immutable_collections_that_are_not_lists() throws Exception {
+		Method of;
+		try {
+			// Set.of is only available with JDK 9+.
+			of = Set.class.getMethod("of", Object.class, Object.class);
+		}
+		catch (NoSuchMethodException ex) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<String> set = (Set<String>) of.invoke(null, "foo", "bar");
+		List<String> copy = Iterables.toList(set);
+
+		assertThat(copy)
+				.isExactlyInstanceOf(ArrayList.class)
+				.hasSize(2)
+				.containsOnly("foo", "bar");
+	}
+
+	@Test
+	public void it_should_get_array_list_from_collection() {
+		Collection<String> collection = new LinkedHashSet<>(asList("foo", "bar"));
+		List<String> copy = Iterables.toList(collection);
+		assertThat(copy)
+				.isNotNull()
+				.isExactlyInstanceOf(ArrayList.class)
+				.hasSameSizeAs(collection)
+				.isNotSameAs(collection)
+				.containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void it_should_get_array_list_from_linked_list() {
+		Collection<String> collection = new LinkedList<>(asList("foo", "bar"));
+		List<String> copy = Iterables.toList(collection);
+		assertThat(copy)
+				.isNotNull()
+				.isExactlyInstanceOf(ArrayList.class)
+				.isNotSameAs(collection)
+				.isEqualTo(collection);
+	}
+
+	@Test
+	public void it_should_get_chunked_list_from_iterable() {
 		final List<String> originalList = asList("foo", "bar");
 
 		Iterable<String> iterable = new Iterable<String>() {
@@ -60,7 +126,8 @@ public class IterablesTest {
 
 		assertThat(copy)
 				.isNotNull()
-				.isExactlyInstanceOf(LinkedList.class)
+				.isExactlyInstanceOf(ChunkedArrayList.class)
+				.isInstanceOf(RandomAccess.class)
 				.hasSameSizeAs(iterable)
 				.isNotSameAs(iterable)
 				.isEqualTo(originalList);
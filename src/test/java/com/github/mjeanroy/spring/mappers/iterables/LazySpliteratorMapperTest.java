@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooLazyMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazySpliteratorMapperTest {
+
+	private List<Foo> foos;
+
+	private ObjectMapper<Foo, FooDto> mapper;
+
+	@Before
+	public void setUp() {
+		foos = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			foos.add(new Foo((long) i, "foo" + i));
+		}
+
+		mapper = new FooLazyMapper(new SpringMapper());
+	}
+
+	@Test
+	public void it_should_report_size_of_original_spliterator() {
+		Spliterator<FooDto> spliterator = new LazySpliteratorMapper<>(foos.spliterator(), mapper);
+
+		assertThat(spliterator.estimateSize()).isEqualTo(100L);
+		assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(100L);
+		assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+		assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+		assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+	}
+
+	@Test
+	public void it_should_not_report_sorted_and_distinct_characteristics() {
+		TreeSet<String> set = new TreeSet<>();
+		set.add("foo");
+
+		Spliterator<String> spliterator = new LazySpliteratorMapper<>(set.spliterator(), new IdentityMapper());
+
+		assertThat(set.spliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+		assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isFalse();
+		assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
+		assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+	}
+
+	@Test
+	public void it_should_split_and_map_elements() {
+		Spliterator<FooDto> spliterator = new LazySpliteratorMapper<>(foos.spliterator(), mapper);
+
+		Spliterator<FooDto> prefix = spliterator.trySplit();
+
+		assertThat(prefix).isNotNull().isInstanceOf(LazySpliteratorMapper.class);
+		assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(100L);
+
+		final List<FooDto> results = new ArrayList<>();
+		prefix.forEachRemaining(results::add);
+		while (spliterator.tryAdvance(results::add)) {
+			// Consume all elements.
+		}
+
+		assertThat(results).hasSize(100);
+		for (int i = 0; i < 100; i++) {
+			assertThat(results.get(i).getId()).isEqualTo(foos.get(i).getId());
+		}
+	}
+
+	@Test
+	public void it_should_map_in_parallel_stream() {
+		LazyUnmodifiableCollectionMapper<FooDto, Foo> collection = new LazyUnmodifiableCollectionMapper<>(foos, mapper);
+
+		List<Long> ids = StreamSupport.stream(collection.spliterator(), true)
+				.map(FooDto::getId)
+				.collect(Collectors.<Long>toList());
+
+		assertThat(collection.spliterator()).isInstanceOf(LazySpliteratorMapper.class);
+		assertThat(ids).hasSize(100);
+		for (int i = 0; i < 100; i++) {
+			assertThat(ids.get(i)).isEqualTo((long) i);
+		}
+	}
+
+	@Test
+	public void it_should_create_spliterator_from_lazy_iterable() {
+		LazyIterableMapper<FooDto, Foo> iterable = new LazyIterableMapper<>(foos, mapper);
+
+		Spliterator<FooDto> spliterator = iterable.spliterator();
+
+		assertThat(spliterator).isInstanceOf(LazySpliteratorMapper.class);
+		assertThat(spliterator.estimateSize()).isEqualTo(100L);
+	}
+
+	private static class IdentityMapper implements ObjectMapper<String, String> {
+		@Override
+		public String map(String source) {
+			return source;
+		}
+
+		@Override
+		public Iterable<String> map(Iterable<String> sources) {
+			return sources;
+		}
+
+		@Override
+		public <K> Map<K, String> map(Map<K, String> sources) {
+			return sources;
+		}
+	}
+}
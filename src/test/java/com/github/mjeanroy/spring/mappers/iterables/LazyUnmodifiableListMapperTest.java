@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.AbstractObjectMapper;
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+public class LazyUnmodifiableListMapperTest {
+
+	private List<Foo> foos;
+
+	private ObjectMapper<Foo, FooDto> mapper;
+
+	@Before
+	public void setUp() {
+		foos = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			foos.add(new Foo((long) i, "foo" + i));
+		}
+
+		mapper = spy(new AbstractObjectMapper<Foo, FooDto>(new SpringMapper()) {
+		});
+	}
+
+	@Test
+	public void it_should_map_element_on_demand() {
+		LazyUnmodifiableListMapper<FooDto, Foo> list = new LazyUnmodifiableListMapper<>(foos, mapper);
+
+		assertThat(list).isInstanceOf(RandomAccess.class);
+		assertThat(list.size()).isEqualTo(100);
+		verify(mapper, never()).map(any(Foo.class));
+
+		FooDto dto = list.get(42);
+
+		assertThat(dto.getId()).isEqualTo(42L);
+		verify(mapper).map(same(foos.get(42)));
+		verify(mapper, times(1)).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_map_only_elements_of_sub_list() {
+		LazyUnmodifiableListMapper<FooDto, Foo> list = new LazyUnmodifiableListMapper<>(foos, mapper);
+
+		List<FooDto> page = new ArrayList<>(list.subList(10, 20));
+
+		assertThat(page).hasSize(10);
+		assertThat(page.get(0).getId()).isEqualTo(10L);
+		assertThat(page.get(9).getId()).isEqualTo(19L);
+		verify(mapper, times(10)).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_create_lazy_spliterator() {
+		LazyUnmodifiableListMapper<FooDto, Foo> list = new LazyUnmodifiableListMapper<>(foos, mapper);
+		assertThat(list.spliterator()).isInstanceOf(LazySpliteratorMapper.class);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_add_element() {
+		new LazyUnmodifiableListMapper<>(foos, mapper).add(new FooDto());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_remove_element() {
+		new LazyUnmodifiableListMapper<>(foos, mapper).remove(0);
+	}
+
+	@Test
+	public void it_should_return_lazy_list_for_random_access_sources() {
+		Iterable<FooDto> results = mapper.map(foos);
+
+		assertThat(results).isExactlyInstanceOf(LazyUnmodifiableListMapper.class).hasSize(100);
+		verify(mapper, never()).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_return_lazy_list_for_other_iterables() {
+		Iterable<FooDto> results = mapper.map(new Iterable<Foo>() {
+			@Override
+			public Iterator<Foo> iterator() {
+				return new LinkedList<>(foos).iterator();
+			}
+		});
+
+		assertThat(results).isExactlyInstanceOf(LazyUnmodifiableListMapper.class).hasSize(100);
+	}
+}
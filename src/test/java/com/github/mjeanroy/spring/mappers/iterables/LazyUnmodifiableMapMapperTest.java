@@ -0,0 +1,189 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class LazyUnmodifiableMapMapperTest {
+
+	private Foo foo1;
+
+	private Foo foo2;
+
+	private Map<Long, Foo> foos;
+
+	private ObjectMapper<Foo, FooDto> mapper;
+
+	@Before
+	public void setUp() {
+		foo1 = new Foo(1L, "foo1");
+		foo2 = new Foo(2L, "foo2");
+
+		foos = new LinkedHashMap<>();
+		foos.put(foo1.getId(), foo1);
+		foos.put(foo2.getId(), foo2);
+		foos.put(3L, null);
+
+		mapper = mock(ObjectMapper.class);
+		when(mapper.map(any(Foo.class))).thenAnswer(invocation -> {
+			Foo foo = (Foo) invocation.getArguments()[0];
+			if (foo == null) {
+				return null;
+			}
+
+			FooDto dto = new FooDto();
+			dto.setId(foo.getId());
+			dto.setName(foo.getName());
+			return dto;
+		});
+	}
+
+	@Test
+	public void it_should_not_map_values_before_access() {
+		Map<Long, FooDto> map = new LazyUnmodifiableMapMapper<>(foos, mapper);
+
+		assertThat(map.size()).isEqualTo(3);
+		assertThat(map.isEmpty()).isFalse();
+		assertThat(map.containsKey(1L)).isTrue();
+		assertThat(map.containsKey(4L)).isFalse();
+		assertThat(map.keySet()).containsExactly(1L, 2L, 3L);
+		verify(mapper, never()).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_map_value_on_get() {
+		Map<Long, FooDto> map = new LazyUnmodifiableMapMapper<>(foos, mapper);
+
+		FooDto dto = map.get(1L);
+
+		assertThat(dto.getId()).isEqualTo(foo1.getId());
+		assertThat(map.get(4L)).isNull();
+		verify(mapper).map(same(foo1));
+		verify(mapper, never()).map(same(foo2));
+	}
+
+	@Test
+	public void it_should_map_values_during_iteration() {
+		Map<Long, FooDto> map = new LazyUnmodifiableMapMapper<>(foos, mapper);
+
+		List<Long> keys = new ArrayList<>();
+		List<FooDto> values = new ArrayList<>();
+		for (Map.Entry<Long, FooDto> entry : map.entrySet()) {
+			keys.add(entry.getKey());
+			values.add(entry.getValue());
+		}
+
+		assertThat(keys).containsExactly(1L, 2L, 3L);
+		assertThat(values).hasSize(3);
+		assertThat(values.get(0).getName()).isEqualTo(foo1.getName());
+		assertThat(values.get(1).getName()).isEqualTo(foo2.getName());
+		assertThat(values.get(2)).isNull();
+	}
+
+	@Test
+	public void it_should_map_value_again_without_memoization() {
+		Map<Long, FooDto> map = new LazyUnmodifiableMapMapper<>(foos, mapper);
+
+		assertThat(map.get(1L)).isNotSameAs(map.get(1L));
+		verify(mapper, times(2)).map(same(foo1));
+	}
+
+	@Test
+	public void it_should_memoize_values() {
+		Map<Long, FooDto> map = new LazyUnmodifiableMapMapper<>(foos, mapper, true);
+
+		FooDto dto = map.get(1L);
+		assertThat(map.get(1L)).isSameAs(dto);
+		assertThat(map.entrySet().iterator().next().getValue()).isSameAs(dto);
+		assertThat(map.get(3L)).isNull();
+		assertThat(map.get(3L)).isNull();
+
+		verify(mapper).map(same(foo1));
+		verify(mapper, times(1)).map((Foo) null);
+	}
+
+	@Test
+	public void it_should_memoize_values_per_key_instance_of_identity_map() {
+		String key1 = new String("foo");
+		String key2 = new String("foo");
+		Map<String, Foo> identityFoos = new IdentityHashMap<>();
+		identityFoos.put(key1, foo1);
+		identityFoos.put(key2, foo2);
+
+		Map<String, FooDto> map = new LazyUnmodifiableMapMapper<>(identityFoos, mapper, true);
+
+		FooDto dto1 = map.get(key1);
+		FooDto dto2 = map.get(key2);
+
+		assertThat(dto1.getId()).isEqualTo(foo1.getId());
+		assertThat(dto2.getId()).isEqualTo(foo2.getId());
+		assertThat(map.get(key1)).isSameAs(dto1);
+		assertThat(map.get(key2)).isSameAs(dto2);
+		verify(mapper).map(same(foo1));
+		verify(mapper).map(same(foo2));
+	}
+
+	@Test
+	public void it_should_memoize_values_with_comparator_of_sorted_map() {
+		Map<String, Foo> sortedFoos = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		sortedFoos.put("foo", foo1);
+
+		Map<String, FooDto> map = new LazyUnmodifiableMapMapper<>(sortedFoos, mapper, true);
+
+		FooDto dto = map.get("FOO");
+		assertThat(dto.getId()).isEqualTo(foo1.getId());
+		assertThat(map.get("foo")).isSameAs(dto);
+		assertThat(map.get("Foo")).isSameAs(dto);
+		assertThat(map.entrySet().iterator().next().getValue()).isSameAs(dto);
+		verify(mapper).map(same(foo1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_put_value() {
+		new LazyUnmodifiableMapMapper<>(foos, mapper).put(4L, new FooDto());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_remove_entry() {
+		new LazyUnmodifiableMapMapper<>(foos, mapper).entrySet().clear();
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.iterables;
+
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class MemoizedUnmodifiableListMapperTest {
+
+	private Foo foo1;
+
+	private Foo foo2;
+
+	private ObjectMapper<Foo, FooDto> mapper;
+
+	private MemoizedUnmodifiableListMapper<FooDto, Foo> list;
+
+	@Before
+	public void setUp() {
+		foo1 = new Foo(1L, "foo1");
+		foo2 = new Foo(2L, "foo2");
+		mapper = mock(ObjectMapper.class);
+		when(mapper.map(any(Foo.class))).thenAnswer(invocation -> {
+			Foo foo = (Foo) invocation.getArguments()[0];
+			FooDto dto = new FooDto();
+			dto.setId(foo.getId());
+			dto.setName(foo.getName());
+			return dto;
+		});
+
+		list = new MemoizedUnmodifiableListMapper<>(asList(foo1, foo2), mapper);
+	}
+
+	@Test
+	public void it_should_not_map_elements_before_access() {
+		assertThat(list.size()).isEqualTo(2);
+		assertThat(list.isEmpty()).isFalse();
+		verify(mapper, never()).map(any(Foo.class));
+	}
+
+	@Test
+	public void it_should_map_element_once() {
+		FooDto dto1 = list.get(0);
+		FooDto dto2 = list.get(0);
+
+		assertThat(dto1).isNotNull().isSameAs(dto2);
+		assertThat(dto1.getId()).isEqualTo(foo1.getId());
+		verify(mapper).map(same(foo1));
+		verify(mapper, never()).map(same(foo2));
+	}
+
+	@Test
+	public void it_should_reuse_mapped_elements_during_iterations() {
+		List<FooDto> first = new ArrayList<>(list);
+		List<FooDto> second = new ArrayList<>(list);
+
+		assertThat(first).hasSize(2);
+		assertThat(second.get(0)).isSameAs(first.get(0));
+		assertThat(second.get(1)).isSameAs(first.get(1));
+		verify(mapper).map(same(foo1));
+		verify(mapper).map(same(foo2));
+	}
+
+	@Test
+	public void it_should_memoize_null_elements() {
+		doReturn(null).when(mapper).map(same(foo1));
+
+		assertThat(list.get(0)).isNull();
+		assertThat(list.get(0)).isNull();
+		verify(mapper).map(same(foo1));
+	}
+
+	@Test
+	public void it_should_return_same_element_to_concurrent_readers() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<FooDto>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(new Callable<FooDto>() {
+					@Override
+					public FooDto call() {
+						return list.get(1);
+					}
+				}));
+			}
+
+			FooDto dto = list.get(1);
+			for (Future<FooDto> future : futures) {
+				assertThat(future.get()).isSameAs(dto);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_add_element() {
+		list.add(new FooDto());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void it_should_not_set_element() {
+		list.set(0, new FooDto());
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.jfr;
+
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import com.github.mjeanroy.spring.mappers.utils.FooInMemoryMapper;
+import com.github.mjeanroy.spring.mappers.utils.FooLazyMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappingEventsTest {
+
+	private static final String MAPPING = "com.github.mjeanroy.spring.mappers.Mapping";
+	private static final String COLLECTION_MAPPING = "com.github.mjeanroy.spring.mappers.CollectionMapping";
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("mappings", ".jfr");
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void it_should_not_begin_disabled_events() {
+		assertThat(MappingEvents.beginMapping()).isNull();
+		assertThat(MappingEvents.beginCollectionMapping()).isNull();
+	}
+
+	@Test
+	public void it_should_record_mapping_events() throws Exception {
+		List<Foo> foos = asList(new Foo(1L, "foo"), new Foo(2L, "bar"));
+		FooInMemoryMapper inMemoryMapper = new FooInMemoryMapper(new SpringMapper());
+		FooLazyMapper lazyMapper = new FooLazyMapper(new SpringMapper());
+
+		try (Recording recording = new Recording()) {
+			recording.enable(MAPPING);
+			recording.enable(COLLECTION_MAPPING);
+			recording.start();
+
+			inMemoryMapper.map(foos.get(0));
+			inMemoryMapper.map(foos);
+			for (FooDto fooDto : lazyMapper.map((Iterable<Foo>) foos)) {
+				assertThat(fooDto).isNotNull();
+			}
+
+			recording.stop();
+			recording.dump(file.toPath());
+		}
+
+		List<RecordedEvent> mappings = new ArrayList<>();
+		List<RecordedEvent> collectionMappings = new ArrayList<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+			String name = event.getEventType().getName();
+			if (name.equals(MAPPING)) {
+				mappings.add(event);
+			}
+			else if (name.equals(COLLECTION_MAPPING)) {
+				collectionMappings.add(event);
+			}
+		}
+
+		// Single mapping, and mapping of each element of in memory and lazy iterables.
+		assertThat(mappings).hasSize(5);
+		assertThat(mappings.get(0).getClass("sourceClass").getName()).isEqualTo(Foo.class.getName());
+		assertThat(mappings.get(0).getClass("destinationClass").getName()).isEqualTo(FooDto.class.getName());
+		assertThat(mappings.get(0).getString("provider")).isEqualTo(SpringMapper.class.getName());
+
+		assertThat(collectionMappings).hasSize(2);
+		assertThat(collectionMappings.get(0).getInt("count")).isEqualTo(2);
+		assertThat(collectionMappings.get(0).getBoolean("lazy")).isFalse();
+		assertThat(collectionMappings.get(1).getInt("count")).isEqualTo(2);
+		assertThat(collectionMappings.get(1).getBoolean("lazy")).isTrue();
+		assertThat(collectionMappings.get(1).getClass("destinationClass").getName()).isEqualTo(FooDto.class.getName());
+	}
+}
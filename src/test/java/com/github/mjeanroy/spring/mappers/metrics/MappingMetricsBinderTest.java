@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappingMetricsBinderTest {
+
+	@Test
+	public void it_should_publish_existing_and_new_timers() {
+		MappingMetricsRegistry registry = new MappingMetricsRegistry();
+		registry.timer(Foo.class, Foo.class).record(1000);
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		new MappingMetricsBinder(registry).bindTo(meterRegistry);
+
+		registry.timer(Foo.class, FooDto.class).record(2000);
+		registry.timer(Foo.class, FooDto.class).record(4000);
+
+		FunctionTimer timer = meterRegistry.get(MappingMetricsBinder.TIMER_NAME)
+				.tag("source", Foo.class.getName())
+				.tag("destination", FooDto.class.getName())
+				.functionTimer();
+
+		assertThat(timer.count()).isEqualTo(2.0);
+		assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(6000.0);
+
+		TimeGauge max = meterRegistry.get(MappingMetricsBinder.MAX_NAME)
+				.tag("destination", FooDto.class.getName())
+				.timeGauge();
+
+		assertThat(max.value(TimeUnit.NANOSECONDS)).isEqualTo(4000.0);
+		assertThat(meterRegistry.get(MappingMetricsBinder.TIMER_NAME).functionTimers()).hasSize(2);
+	}
+
+	@Test
+	public void it_should_bind_meter_registry_once() {
+		MappingMetricsRegistry registry = new MappingMetricsRegistry();
+		MappingMetricsBinder binder = new MappingMetricsBinder(registry);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		binder.bindTo(meterRegistry);
+		binder.bindTo(meterRegistry);
+
+		registry.timer(Foo.class, FooDto.class).record(1000);
+
+		FunctionTimer timer = meterRegistry.get(MappingMetricsBinder.TIMER_NAME).functionTimer();
+		assertThat(timer.count()).isEqualTo(1.0);
+		assertThat(meterRegistry.getMeters()).hasSize(2);
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.commons.TypePair;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappingTimerTest {
+
+	private MappingTimer timer;
+
+	@Before
+	public void setUp() {
+		timer = new MappingTimer(TypePair.of(Foo.class, FooDto.class));
+	}
+
+	@Test
+	public void it_should_compute_histogram_buckets() {
+		assertThat(MappingTimer.bucket(0)).isEqualTo(0);
+		assertThat(MappingTimer.bucket(1)).isEqualTo(0);
+		assertThat(MappingTimer.bucket(2)).isEqualTo(1);
+		assertThat(MappingTimer.bucket(3)).isEqualTo(2);
+		assertThat(MappingTimer.bucket(4)).isEqualTo(2);
+		assertThat(MappingTimer.bucket(5)).isEqualTo(3);
+		assertThat(MappingTimer.bucket(1024)).isEqualTo(10);
+		assertThat(MappingTimer.bucket(1025)).isEqualTo(11);
+		assertThat(MappingTimer.bucket(Long.MAX_VALUE)).isEqualTo(MappingTimer.BUCKETS - 1);
+
+		assertThat(MappingTimer.getBucketBound(10)).isEqualTo(1024L);
+		assertThat(MappingTimer.getBucketBound(MappingTimer.BUCKETS - 1)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void it_should_record_mapping_time() {
+		timer.record(1000);
+		timer.record(3000);
+
+		assertThat(timer.getCount()).isEqualTo(2L);
+		assertThat(timer.getTotalTime(TimeUnit.NANOSECONDS)).isEqualTo(4000.0);
+		assertThat(timer.getTotalTime(TimeUnit.MICROSECONDS)).isEqualTo(4.0);
+		assertThat(timer.getMax(TimeUnit.NANOSECONDS)).isEqualTo(3000.0);
+		assertThat(timer.getMean(TimeUnit.NANOSECONDS)).isEqualTo(2000.0);
+
+		long[] histogram = timer.getHistogram();
+		assertThat(histogram).hasSize(MappingTimer.BUCKETS);
+		assertThat(histogram[10]).isEqualTo(1L);
+		assertThat(histogram[12]).isEqualTo(1L);
+	}
+
+	@Test
+	public void it_should_record_batch_mapping_time() {
+		timer.record(4000, 4);
+		timer.record(1000, 0);
+
+		assertThat(timer.getCount()).isEqualTo(4L);
+		assertThat(timer.getTotalTime(TimeUnit.NANOSECONDS)).isEqualTo(4000.0);
+		assertThat(timer.getMax(TimeUnit.NANOSECONDS)).isEqualTo(1000.0);
+		assertThat(timer.getHistogram()[10]).isEqualTo(4L);
+	}
+
+	@Test
+	public void it_should_not_compute_mean_without_records() {
+		assertThat(timer.getCount()).isZero();
+		assertThat(timer.getMean(TimeUnit.NANOSECONDS)).isEqualTo(0.0);
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 <mickael.jeanroy@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.spring.mappers.metrics;
+
+import com.github.mjeanroy.spring.mappers.Mapper;
+import com.github.mjeanroy.spring.mappers.factory.ObjectFactory;
+import com.github.mjeanroy.spring.mappers.impl.spring.SpringMapper;
+import com.github.mjeanroy.spring.mappers.utils.Foo;
+import com.github.mjeanroy.spring.mappers.utils.FooDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class MetricsMapperTest {
+
+	private MappingMetricsRegistry registry;
+
+	private MetricsMapper mapper;
+
+	private ObjectFactory<FooDto, Foo> factory;
+
+	@Before
+	public void setUp() {
+		registry = new MappingMetricsRegistry();
+		mapper = new MetricsMapper(new SpringMapper(), registry);
+		factory = new ObjectFactory<FooDto, Foo>() {
+			@Override
+			public FooDto get(Foo source) {
+				return new FooDto();
+			}
+		};
+	}
+
+	@Test
+	public void it_should_record_mapping_of_each_type_pair() {
+		FooDto dto = mapper.map(new Foo(1L, "foo"), factory);
+		mapper.map(new Foo(2L, "bar"), new FooDto());
+
+		assertThat(dto.getId()).isEqualTo(1L);
+		assertThat(registry.getTimers()).hasSize(1);
+		assertThat(registry.getTimer(Foo.class, FooDto.class).getCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void it_should_not_record_null_mapping() {
+		MetricsMapper metricsMapper = new MetricsMapper(mock(Mapper.class), registry);
+		assertThat(metricsMapper.map(new Foo(1L, "foo"), factory)).isNull();
+		assertThat(registry.getTimers()).isEmpty();
+	}
+
+	@Test
+	public void it_should_record_batch_mapping() {
+		List<Foo> foos = asList(null, new Foo(1L, "foo"), new Foo(2L, "bar"));
+		List<FooDto> dtos = new ArrayList<>();
+		dtos.add(new FooDto());
+
+		mapper.mapAll(foos, factory, dtos);
+
+		assertThat(dtos).hasSize(4);
+		assertThat(dtos.get(1)).isNull();
+		assertThat(dtos.get(3).getName()).isEqualTo("bar");
+		assertThat(registry.getTimer(Foo.class, FooDto.class).getCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void it_should_record_heterogeneous_batch_mapping_of_each_type_pair() {
+		ObjectFactory<FooDto, Foo> factory = source -> source.getId() == 2L ? new SubFooDto() : new FooDto();
+		List<Foo> foos = asList(new Foo(1L, "foo"), new Foo(2L, "bar"), new Foo(3L, "baz"));
+		List<FooDto> dtos = new ArrayList<>();
+
+		mapper.mapAll(foos, factory, dtos);
+
+		assertThat(dtos).hasSize(3);
+		assertThat(dtos.get(1)).isExactlyInstanceOf(SubFooDto.class);
+		assertThat(registry.getTimers()).hasSize(2);
+		assertThat(registry.getTimer(Foo.class, FooDto.class).getCount()).isEqualTo(2L);
+		assertThat(registry.getTimer(Foo.class, SubFooDto.class).getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void it_should_record_batch_mapping_of_linked_lists() {
+		List<Foo> foos = new LinkedList<>(asList(new Foo(1L, "foo"), null, new Foo(2L, "bar")));
+		List<FooDto> dtos = new LinkedList<>();
+		dtos.add(new FooDto());
+
+		mapper.mapAll(foos, factory, dtos);
+
+		assertThat(dtos).hasSize(4);
+		assertThat(dtos.get(2)).isNull();
+		assertThat(registry.getTimer(Foo.class, FooDto.class).getCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void it_should_return_delegate_of_decorated_mapper() {
+		Mapper springMapper = mapper.getMapper();
+		assertThat(springMapper).isInstanceOf(SpringMapper.class);
+		assertThat(mapper.getDelegate()).isSameAs(springMapper.getDelegate());
+	}
+
+	@Test
+	public void it_should_notify_listeners_of_created_timers() {
+		AtomicReference<MappingTimer> created = new AtomicReference<>();
+		registry.addListener(created::set);
+		assertThat(created.get()).isNull();
+
+		MappingTimer timer = registry.timer(Foo.class, FooDto.class);
+		assertThat(created.get()).isSameAs(timer);
+		assertThat(registry.timer(Foo.class, FooDto.class)).isSameAs(timer);
+	}
+
+	public static class SubFooDto extends FooDto {
+	}
+}
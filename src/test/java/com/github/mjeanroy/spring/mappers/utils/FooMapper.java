@@ -24,9 +24,11 @@
 
 package com.github.mjeanroy.spring.mappers.utils;
 
+import com.github.mjeanroy.spring.mappers.ObjectMapper;
+
 import java.util.Map;
 
-public interface FooMapper {
+public interface FooMapper extends ObjectMapper<Foo, FooDto> {
 
 	FooDto map(Foo foo);
 